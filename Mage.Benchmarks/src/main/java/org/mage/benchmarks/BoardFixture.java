@@ -0,0 +1,84 @@
+package org.mage.benchmarks;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.players.Player;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Typical mid game board for benchmarks, uses the same API as unit tests
+ * <p>
+ * Must be used from Mage.Tests folder (test decks and configs)
+ */
+public class BoardFixture extends CardTestPlayerBase {
+
+    public static BoardFixture createMidGameBoard() {
+        // game code must run in GAME thread (see ThreadUtils.ensureRunInGameThread), but JMH uses own worker threads
+        ExecutorService executor = Executors.newSingleThreadExecutor(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        try {
+            return executor.submit(() -> {
+                BoardFixture fixture = new BoardFixture();
+                init();
+                fixture.reset();
+                fixture.prepareMidGameBoard();
+                return fixture;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Can't prepare benchmark game", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Can't prepare benchmark game", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void prepareMidGameBoard() {
+        // player A: 5-color mana, creatures and static effects
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Arcane Sanctum", 2); // W U B
+        addCard(Zone.BATTLEFIELD, playerA, "Jungle Shrine", 2); // R G W
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Serra Angel", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1); // creatures you control get +1/+1
+        addCard(Zone.BATTLEFIELD, playerA, "Honor of the Pure", 1); // white creatures you control get +1/+1
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 2);
+        addCard(Zone.HAND, playerA, "Giant Growth", 2);
+        addCard(Zone.HAND, playerA, "Wrath of God", 1);
+        addCard(Zone.HAND, playerA, "Shock", 2);
+        addCard(Zone.GRAVEYARD, playerA, "Grizzly Bears", 3);
+
+        // player B: aggro board
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Swamp", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Raging Goblin", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Ornithopter", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Bad Moon", 1); // black creatures get +1/+1
+        addCard(Zone.HAND, playerB, "Lightning Bolt", 3);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    public Game getGame() {
+        return currentGame;
+    }
+
+    public Player getPlayerA() {
+        return currentGame.getPlayer(playerA.getId());
+    }
+
+    public Player getPlayerB() {
+        return currentGame.getPlayer(playerB.getId());
+    }
+}
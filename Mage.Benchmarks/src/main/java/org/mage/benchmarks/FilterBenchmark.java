@@ -0,0 +1,74 @@
+package org.mage.benchmarks;
+
+import mage.ObjectColor;
+import mage.constants.SubType;
+import mage.constants.TargetController;
+import mage.filter.FilterPermanent;
+import mage.filter.StaticFilters;
+import mage.filter.common.FilterCreaturePermanent;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter checks over all battlefield permanents (targets, counts, static effects)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterBenchmark {
+
+    private Game game;
+    private UUID playerId;
+    private List<Permanent> permanents;
+    private FilterPermanent complexFilter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BoardFixture fixture = BoardFixture.createMidGameBoard();
+        game = fixture.getGame();
+        playerId = fixture.getPlayerA().getId();
+        permanents = new ArrayList<>(game.getBattlefield().getAllPermanents());
+
+        complexFilter = new FilterCreaturePermanent("untapped green Bear you control");
+        complexFilter.add(TappedPredicate.UNTAPPED);
+        complexFilter.add(SubType.BEAR.getPredicate());
+        complexFilter.add(new ColorPredicate(ObjectColor.GREEN));
+        complexFilter.add(TargetController.YOU.getControllerPredicate());
+    }
+
+    private int countByFilter(FilterPermanent filter) {
+        int count = 0;
+        for (Permanent permanent : permanents) {
+            if (filter.match(permanent, playerId, null, game)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int matchStaticFilter() {
+        return countByFilter(StaticFilters.FILTER_PERMANENT_CREATURE);
+    }
+
+    @Benchmark
+    public int matchComplexFilter() {
+        return countByFilter(complexFilter);
+    }
+
+    @Benchmark
+    public int countControlledByBattlefield() {
+        return game.getBattlefield().countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerId, game);
+    }
+}
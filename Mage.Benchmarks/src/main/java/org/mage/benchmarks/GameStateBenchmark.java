@@ -0,0 +1,42 @@
+package org.mage.benchmarks;
+
+import mage.game.Game;
+import mage.game.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game state copy (AI simulations, rollback snapshots) and continuous effects apply (after each game action)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameStateBenchmark {
+
+    private Game game;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        game = BoardFixture.createMidGameBoard().getGame();
+    }
+
+    @Benchmark
+    public GameState copyGameState() {
+        return game.getState().copy();
+    }
+
+    @Benchmark
+    public Game copyGame() {
+        return game.copy();
+    }
+
+    @Benchmark
+    public int applyEffects() {
+        game.applyEffects();
+        return game.getState().getApplyEffectsCounter();
+    }
+}
@@ -0,0 +1,50 @@
+package org.mage.benchmarks;
+
+import mage.game.Game;
+import mage.remote.traffic.ZippedObjectImpl;
+import mage.view.GameView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game updates for the clients: view creation and compression
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameViewBenchmark {
+
+    private Game game;
+    private UUID playerId;
+    private GameView gameView;
+    private ZippedObjectImpl<GameView> zippedGameView;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BoardFixture fixture = BoardFixture.createMidGameBoard();
+        game = fixture.getGame();
+        playerId = fixture.getPlayerA().getId();
+        gameView = new GameView(game.getState(), game, playerId, null);
+        zippedGameView = new ZippedObjectImpl<>(gameView);
+    }
+
+    @Benchmark
+    public GameView createGameView() {
+        return new GameView(game.getState(), game, playerId, null);
+    }
+
+    @Benchmark
+    public ZippedObjectImpl<GameView> zipGameView() {
+        return new ZippedObjectImpl<>(gameView);
+    }
+
+    @Benchmark
+    public GameView unzipGameView() {
+        return zippedGameView.unzip();
+    }
+}
@@ -0,0 +1,49 @@
+package org.mage.benchmarks;
+
+import mage.abilities.ActivatedAbility;
+import mage.abilities.mana.ManaOptions;
+import mage.game.Game;
+import mage.players.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Playable abilities and available mana calculation (GUI updates and AI decisions)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlayableBenchmark {
+
+    private Game game;
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BoardFixture fixture = BoardFixture.createMidGameBoard();
+        game = fixture.getGame();
+        player = fixture.getPlayerA();
+    }
+
+    @Benchmark
+    public List<ActivatedAbility> getPlayable() {
+        // new state version - full calculation without cached result
+        game.getState().setPriorityPlayerId(game.getState().getPriorityPlayerId());
+        return player.getPlayable(game, true);
+    }
+
+    @Benchmark
+    public List<ActivatedAbility> getPlayableSameState() {
+        return player.getPlayable(game, true);
+    }
+
+    @Benchmark
+    public ManaOptions getManaAvailable() {
+        return player.getManaAvailable(game);
+    }
+}
@@ -0,0 +1,66 @@
+package org.mage.benchmarks;
+
+import mage.constants.RangeOfInfluence;
+import mage.game.tournament.Round;
+import mage.game.tournament.TournamentPairing;
+import mage.game.tournament.TournamentPlayer;
+import mage.game.tournament.pairing.RoundPairings;
+import mage.game.tournament.pairing.SwissPairingMinimalWeightMatching;
+import mage.players.StubPlayer;
+import org.mage.test.stub.TournamentStub;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Swiss round pairing (minimal weight perfect matching) for tourneys with few played rounds
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SwissPairingBenchmark {
+
+    private static final int PLAYED_ROUNDS = 3;
+
+    @Param({"16", "64", "256", "512"})
+    public int playersCount;
+
+    private List<TournamentPlayer> players;
+    private List<Round> rounds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        players = new ArrayList<>();
+        for (int i = 0; i < playersCount; i++) {
+            players.add(new TournamentPlayer(new StubPlayer("Tourney player " + (i + 1), RangeOfInfluence.ALL), null));
+        }
+
+        rounds = new ArrayList<>();
+        for (int i = 0; i < PLAYED_ROUNDS; i++) {
+            RoundPairings roundPairings = new SwissPairingMinimalWeightMatching(new ArrayList<>(players), rounds, false).getRoundPairings();
+            Round round = new Round(i + 1, new TournamentStub());
+            rounds.add(round);
+            for (TournamentPairing pairing : roundPairings.getPairings()) {
+                round.addPairing(pairing);
+                TournamentPlayer winner = random.nextBoolean() ? pairing.getPlayer1() : pairing.getPlayer2();
+                winner.setPoints(winner.getPoints() + 3);
+            }
+            for (TournamentPlayer playerBye : roundPairings.getPlayerByes()) {
+                round.getPlayerByes().add(playerBye);
+                playerBye.setPoints(playerBye.getPoints() + 3);
+            }
+        }
+    }
+
+    @Benchmark
+    public RoundPairings pairNextRound() {
+        return new SwissPairingMinimalWeightMatching(new ArrayList<>(players), rounds, false).getRoundPairings();
+    }
+}
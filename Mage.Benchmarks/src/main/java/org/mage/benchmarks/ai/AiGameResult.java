@@ -0,0 +1,69 @@
+package org.mage.benchmarks.ai;
+
+/**
+ * Result of a single AI vs AI game
+ */
+public class AiGameResult {
+
+    private final int index;
+    private final DecisionRecorder recorder;
+    private String winner = "";
+    private int turns = 0;
+    private long durationNanos = 0;
+    private String error = null;
+    private long allocatedBytes = 0;
+
+    public AiGameResult(int index, DecisionRecorder recorder) {
+        this.index = index;
+        this.recorder = recorder;
+    }
+
+    public void finish(String winner, int turns, long durationNanos) {
+        this.winner = winner;
+        this.turns = turns;
+        this.durationNanos = durationNanos;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    /**
+     * Game thread reports own allocation before exit (dead threads can't be measured later)
+     */
+    public void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public DecisionRecorder getRecorder() {
+        return recorder;
+    }
+
+    public String getWinner() {
+        return winner;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
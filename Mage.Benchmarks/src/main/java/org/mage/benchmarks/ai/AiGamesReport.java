@@ -0,0 +1,162 @@
+package org.mage.benchmarks.ai;
+
+import com.google.gson.GsonBuilder;
+import mage.constants.TurnPhase;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * AI vs AI games report, can be compared between builds:
+ * <p>
+ * - csv: one row per game phase and total row (ALL);
+ * <p>
+ * - json: run settings, summary, phases and games list.
+ * <p>
+ * Phase's decisions/sec and allocation rate are calculated by decision time (single
+ * thread speed), summary's games/sec and decisions/sec are calculated by run time
+ * (throughput of all parallel games).
+ */
+public class AiGamesReport {
+
+    private static final String CSV_HEADER = "label,phase,games,games_per_sec,decisions,decisions_per_sec,"
+            + "total_ms,p50_ms,p99_ms,max_ms,allocated_mb,alloc_mb_per_sec";
+
+    private final String label;
+    private final Map<String, Object> settings;
+    private final List<AiGameResult> games;
+    private final long runNanos;
+    private final long runAllocatedBytes;
+
+    private final Map<TurnPhase, PhaseStats> phases = new EnumMap<>(TurnPhase.class);
+    private final PhaseStats total = new PhaseStats(null);
+
+    /**
+     * @param runAllocatedBytes allocated bytes by game and AI simulation threads for whole run (-1 if unknown)
+     */
+    public AiGamesReport(String label, Map<String, Object> settings, List<AiGameResult> games, long runNanos, long runAllocatedBytes) {
+        this.label = label;
+        this.settings = settings;
+        this.games = games;
+        this.runNanos = runNanos;
+        this.runAllocatedBytes = runAllocatedBytes;
+
+        for (AiGameResult game : games) {
+            game.getRecorder().getPhases().forEach((phase, stats) -> {
+                phases.computeIfAbsent(phase, PhaseStats::new).merge(stats);
+                total.merge(stats);
+            });
+        }
+    }
+
+    public int getFinishedGames() {
+        return (int) games.stream().filter(game -> !game.isFailed()).count();
+    }
+
+    public double getGamesPerSec() {
+        return perSec(getFinishedGames(), runNanos);
+    }
+
+    public double getDecisionsPerSec() {
+        return perSec(total.getCount(), runNanos);
+    }
+
+    public PhaseStats getTotal() {
+        return total;
+    }
+
+    public void writeCsv(String fileName) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8))) {
+            writer.println(CSV_HEADER);
+            for (PhaseStats stats : phases.values()) {
+                writer.println(makeCsvRow(stats));
+            }
+            writer.println(makeCsvRow(total));
+        }
+    }
+
+    public void writeJson(String fileName) throws IOException {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("games", games.size());
+        summary.put("finishedGames", getFinishedGames());
+        summary.put("runSec", round(runNanos / 1_000_000_000.0));
+        summary.put("gamesPerSec", round(getGamesPerSec()));
+        summary.put("decisions", total.getCount());
+        summary.put("decisionsPerSec", round(getDecisionsPerSec()));
+        summary.put("p50Ms", toMs(total.getPercentile(50)));
+        summary.put("p99Ms", toMs(total.getPercentile(99)));
+        summary.put("allocMbPerSec", runAllocatedBytes < 0 ? null : round(perSec(runAllocatedBytes, runNanos) / 1024 / 1024));
+
+        List<Map<String, Object>> phasesInfo = new ArrayList<>();
+        for (PhaseStats stats : phases.values()) {
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("phase", stats.getName());
+            info.put("decisions", stats.getCount());
+            info.put("decisionsPerSec", round(perSec(stats.getCount(), stats.getTotalNanos())));
+            info.put("totalMs", toMs(stats.getTotalNanos()));
+            info.put("p50Ms", toMs(stats.getPercentile(50)));
+            info.put("p99Ms", toMs(stats.getPercentile(99)));
+            info.put("maxMs", toMs(stats.getPercentile(100)));
+            info.put("allocatedMb", round(stats.getAllocatedBytes() / 1024.0 / 1024));
+            info.put("allocMbPerSec", round(perSec(stats.getAllocatedBytes(), stats.getTotalNanos()) / 1024 / 1024));
+            phasesInfo.add(info);
+        }
+
+        List<Map<String, Object>> gamesInfo = new ArrayList<>();
+        for (AiGameResult game : games) {
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("index", game.getIndex());
+            info.put("winner", game.getWinner());
+            info.put("turns", game.getTurns());
+            info.put("durationMs", toMs(game.getDurationNanos()));
+            info.put("decisions", game.getRecorder().getPhases().values().stream().mapToInt(PhaseStats::getCount).sum());
+            info.put("error", game.getError());
+            gamesInfo.add(info);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", label);
+        report.put("settings", settings);
+        report.put("summary", summary);
+        report.put("phases", phasesInfo);
+        report.put("games", gamesInfo);
+
+        try (Writer writer = Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().serializeNulls().create().toJson(report, writer);
+        }
+    }
+
+    private String makeCsvRow(PhaseStats stats) {
+        return String.join(",",
+                '"' + label.replace("\"", "\"\"") + '"',
+                stats.getName(),
+                String.valueOf(getFinishedGames()),
+                String.valueOf(round(getGamesPerSec())),
+                String.valueOf(stats.getCount()),
+                String.valueOf(round(perSec(stats.getCount(), stats.getTotalNanos()))),
+                String.valueOf(toMs(stats.getTotalNanos())),
+                String.valueOf(toMs(stats.getPercentile(50))),
+                String.valueOf(toMs(stats.getPercentile(99))),
+                String.valueOf(toMs(stats.getPercentile(100))),
+                String.valueOf(round(stats.getAllocatedBytes() / 1024.0 / 1024)),
+                String.valueOf(round(perSec(stats.getAllocatedBytes(), stats.getTotalNanos()) / 1024 / 1024))
+        );
+    }
+
+    private static double perSec(long value, long nanos) {
+        return nanos <= 0 ? 0 : value * 1_000_000_000.0 / nanos;
+    }
+
+    private static double toMs(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
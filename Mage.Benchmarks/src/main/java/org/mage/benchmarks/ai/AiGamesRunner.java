@@ -0,0 +1,207 @@
+package org.mage.benchmarks.ai;
+
+import mage.cards.decks.Deck;
+import mage.cards.decks.DeckCardLists;
+import mage.cards.decks.importer.DeckImporter;
+import mage.cards.repository.CardScanner;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.PhaseStep;
+import mage.constants.RangeOfInfluence;
+import mage.game.Game;
+import mage.game.GameException;
+import mage.game.GameOptions;
+import mage.game.TwoPlayerDuel;
+import mage.game.mulligan.MulliganType;
+import mage.players.Player;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.mage.test.serverside.base.MageTestPlayerBase;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless AI vs AI games runner: plays N games in parallel inside one JVM (without
+ * server and clients) and writes csv/json report with games/sec, decisions/sec,
+ * decision latency and allocation rate per game phase.
+ * <p>
+ * Must be started from Mage.Tests folder (test decks and configs), params in key=value format:
+ * <pre>
+ * java -cp ../Mage.Benchmarks/target/benchmarks.jar org.mage.benchmarks.ai.AiGamesRunner \
+ *     games=20 threads=4 ai1=MAD ai2=MCTS deck1="RB Aggro.dck" deck2="UW Control.dck" \
+ *     skill=4 maxTurns=30 label=my-build report=ai-games
+ * </pre>
+ */
+public class AiGamesRunner {
+
+    private static final Logger logger = Logger.getLogger(AiGamesRunner.class);
+
+    private final int gamesCount;
+    private final int threadsCount;
+    private final AiPlayerType ai1;
+    private final AiPlayerType ai2;
+    private final String deckName1;
+    private final String deckName2;
+    private final int skill;
+    private final int maxTurns;
+    private final String label;
+    private final String reportName;
+
+    private DeckCardLists deckList1;
+    private DeckCardLists deckList2;
+
+    public AiGamesRunner(Map<String, String> params) {
+        this.gamesCount = Integer.parseInt(params.getOrDefault("games", "10"));
+        this.threadsCount = Integer.parseInt(params.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        this.ai1 = AiPlayerType.valueOf(params.getOrDefault("ai1", AiPlayerType.MAD.name()).toUpperCase(Locale.ENGLISH));
+        this.ai2 = AiPlayerType.valueOf(params.getOrDefault("ai2", AiPlayerType.MAD.name()).toUpperCase(Locale.ENGLISH));
+        this.deckName1 = params.getOrDefault("deck1", "RB Aggro.dck");
+        this.deckName2 = params.getOrDefault("deck2", "UW Control.dck");
+        this.skill = Integer.parseInt(params.getOrDefault("skill", "4"));
+        this.maxTurns = Integer.parseInt(params.getOrDefault("maxTurns", "30"));
+        this.label = params.getOrDefault("label", "");
+        this.reportName = params.getOrDefault("report", "ai-games");
+        if (gamesCount <= 0 || threadsCount <= 0 || maxTurns <= 0) {
+            throw new IllegalArgumentException("Wrong params: games, threads and maxTurns must be positive");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> params = new HashMap<>();
+        for (String arg : args) {
+            int pos = arg.indexOf('=');
+            if (pos <= 0) {
+                throw new IllegalArgumentException("Wrong param format, must be key=value: " + arg);
+            }
+            params.put(arg.substring(0, pos), arg.substring(pos + 1));
+        }
+
+        AiGamesReport report = new AiGamesRunner(params).run();
+        logger.info(String.format("Finished %d games: %.3f games/sec, %.1f decisions/sec, p50 %.1f ms, p99 %.1f ms",
+                report.getFinishedGames(),
+                report.getGamesPerSec(),
+                report.getDecisionsPerSec(),
+                report.getTotal().getPercentile(50) / 1_000_000.0,
+                report.getTotal().getPercentile(99) / 1_000_000.0
+        ));
+    }
+
+    public AiGamesReport run() throws Exception {
+        prepare();
+
+        // game threads must use game prefix (see ThreadUtils.ensureRunInGameThread)
+        ExecutorService executor = Executors.newFixedThreadPool(threadsCount, new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        List<AiGameResult> results = new ArrayList<>();
+        List<Future<?>> tasks = new ArrayList<>();
+        Map<Long, Long> startSimulationAllocated = DecisionRecorder.getSimulationThreadsAllocatedBytes();
+        Map<Long, Long> finishSimulationAllocated;
+        long startTime = System.nanoTime();
+        try {
+            for (int i = 1; i <= gamesCount; i++) {
+                AiGameResult result = new AiGameResult(i, new DecisionRecorder());
+                results.add(result);
+                tasks.add(executor.submit(() -> playGame(result)));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+            finishSimulationAllocated = DecisionRecorder.getSimulationThreadsAllocatedBytes();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("AI game runner failed", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        long runNanos = System.nanoTime() - startTime;
+
+        // game threads report own allocation on each game finish, simulation threads are still alive
+        long runAllocated = -1;
+        if (DecisionRecorder.isAllocationSupported()) {
+            runAllocated = 0;
+            for (AiGameResult result : results) {
+                runAllocated += result.getAllocatedBytes();
+            }
+            for (Map.Entry<Long, Long> entry : finishSimulationAllocated.entrySet()) {
+                runAllocated += entry.getValue() - startSimulationAllocated.getOrDefault(entry.getKey(), 0L);
+            }
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("games", gamesCount);
+        settings.put("threads", threadsCount);
+        settings.put("ai1", ai1.name());
+        settings.put("ai2", ai2.name());
+        settings.put("deck1", deckName1);
+        settings.put("deck2", deckName2);
+        settings.put("skill", skill);
+        settings.put("maxTurns", maxTurns);
+        settings.put("javaVersion", System.getProperty("java.version"));
+        settings.put("processors", Runtime.getRuntime().availableProcessors());
+
+        AiGamesReport report = new AiGamesReport(label, settings, results, runNanos, runAllocated);
+        report.writeCsv(reportName + ".csv");
+        report.writeJson(reportName + ".json");
+        logger.info("Report saved to " + reportName + ".csv and " + reportName + ".json");
+        return report;
+    }
+
+    private void prepare() {
+        MageTestPlayerBase.init();
+        Logger.getRootLogger().setLevel(Level.INFO); // test's init enables debug logs
+
+        List<String> errors = new ArrayList<>();
+        CardScanner.scan(errors);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Found errors on card loading: " + String.join("\n", errors));
+        }
+
+        deckList1 = DeckImporter.importDeckFromFile(deckName1, false);
+        deckList2 = DeckImporter.importDeckFromFile(deckName2, false);
+    }
+
+    private void playGame(AiGameResult result) {
+        long startAllocated = DecisionRecorder.getCurrentThreadAllocatedBytes();
+        try {
+            Game game = new TwoPlayerDuel(MultiplayerAttackOption.LEFT, RangeOfInfluence.ONE, MulliganType.GAME_DEFAULT.getMulligan(0), 60, 20, 7);
+            GameOptions options = new GameOptions();
+            options.stopOnTurn = maxTurns; // draw on too long games
+            options.stopAtStep = PhaseStep.UNTAP;
+            game.setGameOptions(options);
+
+            Player player1 = addPlayer(game, ai1.createPlayer("AI 1 - " + ai1.name(), skill, result.getRecorder()), deckList1);
+            Player player2 = addPlayer(game, ai2.createPlayer("AI 2 - " + ai2.name(), skill, result.getRecorder()), deckList2);
+
+            long startTime = System.nanoTime();
+            game.start(result.getIndex() % 2 == 0 ? player2.getId() : player1.getId());
+            long duration = System.nanoTime() - startTime;
+
+            String winner = game.getPlayers().values().stream()
+                    .filter(Player::hasWon)
+                    .map(Player::getName)
+                    .findFirst()
+                    .orElse("draw");
+            result.finish(winner, game.getTurnNum(), duration);
+            logger.info(String.format("Game %d of %d: %s, turns %d, %d ms",
+                    result.getIndex(), gamesCount, winner, game.getTurnNum(), duration / 1_000_000));
+        } catch (Throwable e) {
+            logger.error("Game " + result.getIndex() + " failed: " + e, e);
+            result.setError(e.toString());
+        } finally {
+            if (startAllocated >= 0) {
+                result.setAllocatedBytes(DecisionRecorder.getCurrentThreadAllocatedBytes() - startAllocated);
+            }
+        }
+    }
+
+    private Player addPlayer(Game game, Player player, DeckCardLists deckList) throws GameException {
+        Deck deck = Deck.load(deckList, false, false);
+        game.loadCards(deck.getCards(), player.getId());
+        game.loadCards(deck.getSideboard(), player.getId());
+        game.addPlayer(player, deck);
+        return player;
+    }
+}
@@ -0,0 +1,95 @@
+package org.mage.benchmarks.ai;
+
+import mage.abilities.Ability;
+import mage.constants.RangeOfInfluence;
+import mage.game.Game;
+import mage.player.ai.ComputerPlayer7;
+import mage.player.ai.ComputerPlayerMCTS;
+import mage.players.Player;
+
+import java.util.UUID;
+
+/**
+ * Supported AI types for AI vs AI games, each real decision goes to the game's recorder
+ * <p>
+ * Only the original players are timed, game copies for AI simulations use
+ * default copy() and don't record anything
+ */
+public enum AiPlayerType {
+
+    MAD("Computer - mad") {
+        @Override
+        public Player createPlayer(String name, int skill, DecisionRecorder recorder) {
+            return new TimedComputerPlayer7(name, skill, recorder);
+        }
+    },
+    MCTS("Computer - monte carlo") {
+        @Override
+        public Player createPlayer(String name, int skill, DecisionRecorder recorder) {
+            return new TimedComputerPlayerMCTS(name, skill, recorder);
+        }
+    };
+
+    private final String description;
+
+    AiPlayerType(String description) {
+        this.description = description;
+    }
+
+    public abstract Player createPlayer(String name, int skill, DecisionRecorder recorder);
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    private static final class TimedComputerPlayer7 extends ComputerPlayer7 {
+
+        private final transient DecisionRecorder recorder;
+
+        TimedComputerPlayer7(String name, int skill, DecisionRecorder recorder) {
+            super(name, RangeOfInfluence.ONE, skill);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public boolean priority(Game game) {
+            return recorder.record(game, () -> super.priority(game));
+        }
+
+        @Override
+        public void selectAttackers(Game game, UUID attackingPlayerId) {
+            recorder.recordAction(game, () -> super.selectAttackers(game, attackingPlayerId));
+        }
+
+        @Override
+        public void selectBlockers(Ability source, Game game, UUID defendingPlayerId) {
+            recorder.recordAction(game, () -> super.selectBlockers(source, game, defendingPlayerId));
+        }
+    }
+
+    private static final class TimedComputerPlayerMCTS extends ComputerPlayerMCTS {
+
+        private final transient DecisionRecorder recorder;
+
+        TimedComputerPlayerMCTS(String name, int skill, DecisionRecorder recorder) {
+            super(name, RangeOfInfluence.ONE, skill);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public boolean priority(Game game) {
+            return recorder.record(game, () -> super.priority(game));
+        }
+
+        @Override
+        public void selectAttackers(Game game, UUID attackingPlayerId) {
+            recorder.recordAction(game, () -> super.selectAttackers(game, attackingPlayerId));
+        }
+
+        @Override
+        public void selectBlockers(Ability source, Game game, UUID defendingPlayerId) {
+            recorder.recordAction(game, () -> super.selectBlockers(source, game, defendingPlayerId));
+        }
+    }
+}
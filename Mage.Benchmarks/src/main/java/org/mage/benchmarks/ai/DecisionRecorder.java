@@ -0,0 +1,93 @@
+package org.mage.benchmarks.ai;
+
+import mage.constants.TurnPhase;
+import mage.game.Game;
+import mage.util.ThreadUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Collects AI decisions timing for a single game (one recorder per game thread)
+ * <p>
+ * Allocation is measured for the deciding (game) thread only, AI simulation
+ * threads are shared between all running games, see AiGamesRunner for total
+ * run allocation.
+ */
+public class DecisionRecorder {
+
+    private static final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    private final Map<TurnPhase, PhaseStats> phases = new EnumMap<>(TurnPhase.class);
+
+    public interface Decision {
+        boolean make();
+    }
+
+    public boolean record(Game game, Decision decision) {
+        TurnPhase phase = game.getTurnPhaseType();
+        long startAllocated = getCurrentThreadAllocatedBytes();
+        long startTime = System.nanoTime();
+        try {
+            return decision.make();
+        } finally {
+            long time = System.nanoTime() - startTime;
+            long allocated = getCurrentThreadAllocatedBytes() - startAllocated;
+            if (phase != null) {
+                phases.computeIfAbsent(phase, PhaseStats::new).add(time, startAllocated < 0 ? 0 : allocated);
+            }
+        }
+    }
+
+    public void recordAction(Game game, Runnable decision) {
+        record(game, () -> {
+            decision.run();
+            return true;
+        });
+    }
+
+    public Map<TurnPhase, PhaseStats> getPhases() {
+        return phases;
+    }
+
+    static boolean isAllocationSupported() {
+        return threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * AI simulation threads are shared by all games and live until JVM exit, so it can be measured by snapshots
+     *
+     * @return allocated bytes by AI simulation thread id (empty if not supported by JVM)
+     */
+    static Map<Long, Long> getSimulationThreadsAllocatedBytes() {
+        Map<Long, Long> res = new HashMap<>();
+        if (!isAllocationSupported()) {
+            return res;
+        }
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(ThreadUtils.THREAD_PREFIX_AI_SIMULATION_MAD)
+                    || thread.getName().startsWith(ThreadUtils.THREAD_PREFIX_AI_SIMULATION_MCTS)) {
+                long allocated = ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(thread.getId());
+                if (allocated > 0) {
+                    res.put(thread.getId(), allocated);
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @return allocated bytes by current thread (-1 if not supported by JVM)
+     */
+    static long getCurrentThreadAllocatedBytes() {
+        if (!isAllocationSupported()) {
+            return -1;
+        }
+        return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
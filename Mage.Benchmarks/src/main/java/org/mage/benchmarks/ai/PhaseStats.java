@@ -0,0 +1,70 @@
+package org.mage.benchmarks.ai;
+
+import mage.constants.TurnPhase;
+
+import java.util.Arrays;
+
+/**
+ * AI decisions stats for a single game phase (or all phases if phase is null)
+ */
+public class PhaseStats {
+
+    private final TurnPhase phase;
+    private long[] latencies = new long[64]; // nanos
+    private int count = 0;
+    private long totalNanos = 0;
+    private long allocatedBytes = 0;
+
+    public PhaseStats(TurnPhase phase) {
+        this.phase = phase;
+    }
+
+    public void add(long nanos, long allocated) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        totalNanos += nanos;
+        allocatedBytes += allocated;
+    }
+
+    public void merge(PhaseStats stats) {
+        if (count + stats.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + stats.count));
+        }
+        System.arraycopy(stats.latencies, 0, latencies, count, stats.count);
+        count += stats.count;
+        totalNanos += stats.totalNanos;
+        allocatedBytes += stats.allocatedBytes;
+    }
+
+    public String getName() {
+        return phase == null ? "ALL" : phase.name();
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @param percentile from 0 to 100
+     * @return latency in nanos (nearest-rank method)
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return sorted[Math.min(count, Math.max(1, rank)) - 1];
+    }
+}
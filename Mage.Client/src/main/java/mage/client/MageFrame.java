@@ -59,6 +59,7 @@ import org.junit.Assert;
 import org.mage.card.arcane.ManaSymbols;
 import org.mage.card.arcane.SvgUtils;
 import org.mage.plugins.card.images.DownloadPicturesService;
+import org.mage.plugins.card.images.ImagePackBuilder;
 import org.mage.plugins.card.info.CardInfoPaneImpl;
 import org.mage.plugins.card.utils.CardImageUtils;
 import org.mage.plugins.card.utils.impl.ImageManagerImpl;
@@ -998,6 +999,7 @@ public class MageFrame extends javax.swing.JFrame implements MageClient {
         popupDownload = new javax.swing.JPopupMenu();
         menuDownloadSymbols = new javax.swing.JMenuItem();
         menuDownloadImages = new javax.swing.JMenuItem();
+        menuBuildImagesPack = new javax.swing.JMenuItem();
         desktopPane = new MageJDesktop();
         mageToolbar = new javax.swing.JToolBar();
         btnPreferences = new javax.swing.JButton();
@@ -1059,6 +1061,15 @@ public class MageFrame extends javax.swing.JFrame implements MageClient {
         });
         popupDownload.add(menuDownloadImages);
 
+        menuBuildImagesPack.setText("Build card images pack");
+        menuBuildImagesPack.setToolTipText("Pre-scale downloaded card images to one file for faster cards drawing (it can take few minutes)");
+        menuBuildImagesPack.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                menuBuildImagesPackActionPerformed(evt);
+            }
+        });
+        popupDownload.add(menuBuildImagesPack);
+
         setDefaultCloseOperation(javax.swing.WindowConstants.DO_NOTHING_ON_CLOSE);
         setMinimumSize(new java.awt.Dimension(1000, 500));
 
@@ -1279,6 +1290,10 @@ public class MageFrame extends javax.swing.JFrame implements MageClient {
         downloadImages();
     }//GEN-LAST:event_menuDownloadImagesActionPerformed
 
+    private void menuBuildImagesPackActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_menuBuildImagesPackActionPerformed
+        buildImagesPack();
+    }//GEN-LAST:event_menuBuildImagesPackActionPerformed
+
     private void menuDebugTestCustomCodeActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_menuDebugTestCustomCodeActionPerformed
         LOGGER.info("debug: insert custom code here or set breakpoint");
     }//GEN-LAST:event_menuDebugTestCustomCodeActionPerformed
@@ -1287,6 +1302,23 @@ public class MageFrame extends javax.swing.JFrame implements MageClient {
         DownloadPicturesService.startDownload();
     }
 
+    public void buildImagesPack() {
+        menuBuildImagesPack.setEnabled(false);
+        Thread thread = new Thread(() -> {
+            try {
+                int imagesCount = ImagePackBuilder.build();
+                SwingUtilities.invokeLater(() -> showMessage("Card images pack was built with " + imagesCount + " images"));
+            } catch (Throwable e) {
+                LOGGER.error("Can't build card images pack: " + e, e);
+                SwingUtilities.invokeLater(() -> showError("Can't build card images pack: " + e));
+            } finally {
+                SwingUtilities.invokeLater(() -> menuBuildImagesPack.setEnabled(true));
+            }
+        }, ThreadUtils.THREAD_PREFIX_CLIENT_IMAGES_PACK_BUILDER);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     public void exitApp() {
         tryDisconnectOrExit(true);
     }
@@ -1646,6 +1678,7 @@ public class MageFrame extends javax.swing.JFrame implements MageClient {
     private javax.swing.JMenuItem menuDebugTestCardRenderModesDialog;
     private javax.swing.JMenuItem menuDebugTestCustomCode;
     private javax.swing.JMenuItem menuDebugTestModalDialog;
+    private javax.swing.JMenuItem menuBuildImagesPack;
     private javax.swing.JMenuItem menuDownloadImages;
     private javax.swing.JMenuItem menuDownloadSymbols;
     private javax.swing.JPopupMenu popupDebug;
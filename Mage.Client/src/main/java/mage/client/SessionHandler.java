@@ -363,6 +363,24 @@ public final class SessionHandler {
         }
     }
 
+    public static LobbyDeltaView<TableView> getTablesDelta(UUID roomId, UUID sinceEpoch, long sinceVersion) {
+        try {
+            return session.getTablesDelta(roomId, sinceEpoch, sinceVersion);
+        } catch (MageRemoteException e) {
+            logger.info(e);
+            return null;
+        }
+    }
+
+    public static LobbyDeltaView<MatchView> getFinishedMatchesDelta(UUID roomId, UUID sinceEpoch, long sinceVersion) {
+        try {
+            return session.getFinishedMatchesDelta(roomId, sinceEpoch, sinceVersion);
+        } catch (MageRemoteException e) {
+            logger.info(e);
+            return null;
+        }
+    }
+
     public static List<String> getServerMessages() {
         return session.getServerMessages();
     }
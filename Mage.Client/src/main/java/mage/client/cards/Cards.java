@@ -42,6 +42,7 @@
      private boolean isVisibleIfEmpty = true;
 
      private Dimension cardDimension;
+     private boolean wasLoaded = false;
 
      /**
       * Creates new form Cards
@@ -170,6 +171,7 @@
          }
 
          // add objects to the panel
+         boolean updated = false;
          for (CardView card : orderedList) {
              if (dontDisplayTapped) {
                  if (card instanceof PermanentView) {
@@ -195,11 +197,16 @@
              } else {
                  card.setAbilityType(null);
              }
-             if (!cards.containsKey(card.getId())) {
+             MageCard cardPanel = cards.get(card.getId());
+             if (cardPanel == null) {
                  addCard(card, bigCard, gameId);
                  changed = true;
+                 cards.get(card.getId()).update(card);
+             } else if (!CardsViewUtil.isSameCardState(cardPanel.getOriginal(), card)) {
+                 // server sends full game state, so most of cards are the same as before
+                 cardPanel.update(card);
+                 updated = true;
              }
-             cards.get(card.getId()).update(card);
          }
 
          if (changed) {
@@ -210,9 +217,13 @@
              cardArea.setVisible(!cards.isEmpty());
          }
 
-         sizeCards(getCardDimension());
-         this.revalidate();
-         this.repaint();
+         // nothing changed (e.g. stack on priority updates) - no needs in relayout and repaint
+         if (changed || updated || !wasLoaded) {
+             wasLoaded = true;
+             sizeCards(getCardDimension());
+             this.revalidate();
+             this.repaint();
+         }
 
          // auto-scroll (must use it at the end)
          if (changed && moveScrollbar) {
@@ -7,6 +7,7 @@ import mage.client.MageFrame;
 import mage.client.cards.BigCard;
 import mage.client.dialog.PreferencesDialog;
 import mage.client.plugins.impl.Plugins;
+import mage.client.util.CardsViewUtil;
 import mage.client.util.ClientDefaultSettings;
 import mage.client.util.GUISizeHelper;
 import mage.client.util.audio.AudioManager;
@@ -225,7 +226,10 @@ public class BattlefieldPanel extends javax.swing.JLayeredPane {
                         }
                     }
                 }
-                oldMagePermanent.update(permanent);
+                // server sends full game state, so most of permanents are the same as before
+                if (!CardsViewUtil.isSameCardState(oldMagePermanent.getOriginalPermanent(), permanent)) {
+                    oldMagePermanent.update(permanent);
+                }
             }
         }
 
@@ -80,6 +80,10 @@ public class PlayerPanelExt extends javax.swing.JPanel {
     private String basicTooltipText;
     private static final Map<UUID, Integer> playerLives = new HashMap<>();
 
+    // server sends full game state, so most of updates don't change the panel (see getPanelState)
+    private java.util.List<Object> lastPanelState;
+    private boolean lifeDisplayActive;
+
     private final Font defaultFont;
 
     private PriorityTimer timer;
@@ -118,6 +122,7 @@ public class PlayerPanelExt extends javax.swing.JPanel {
         setPreferredSize(new Dimension(sizeMod(PANEL_WIDTH), sizeMod(PANEL_HEIGHT)));
         initComponents();
         setGUISize();
+        this.lastPanelState = null; // new components must be filled by next update
     }
 
     private int sizeMod(int value) {
@@ -235,6 +240,63 @@ public class PlayerPanelExt extends javax.swing.JPanel {
         return false;
     }
 
+    private boolean isCommandObjectsPlayable(PlayerView player, GameView game, Set<UUID> possibleTargets) {
+        for (CommandObjectView com : player.getCommandObjectList()) {
+            if (game != null && game.getCanPlayObjects() != null && game.getCanPlayObjects().containsObject(com.getId())) {
+                return true;
+            }
+            if (possibleTargets != null && possibleTargets.contains(com.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * All values shown by the panel (texts, tooltips, colors and borders), so the same state can be skipped on update
+     */
+    private java.util.List<Object> getPanelState(GameView game, PlayerView player, Set<UUID> possibleTargets, Set<UUID> chosenTargets) {
+        StringBuilder counters = new StringBuilder();
+        for (CounterView counter : player.getCounters()) {
+            counters.append(counter.getName()).append(':').append(counter.getCount()).append(';');
+        }
+        java.util.List<UUID> commandObjects = new ArrayList<>();
+        for (CommandObjectView com : player.getCommandObjectList()) {
+            commandObjects.add(com.getId());
+        }
+        ManaPoolView pool = player.getManaPool();
+        return Arrays.asList(
+                MageFrame.getPreferences().get(PreferencesDialog.KEY_DISPLAY_LIVE_ON_AVATAR, "true"),
+                player.getLife(),
+                counters.toString(),
+                player.getHandCount(),
+                player.getLibraryCount(),
+                new ArrayList<>(player.getGraveyard().keySet()),
+                isCardsPlayable(player.getGraveyard().values(), game, possibleTargets),
+                new ArrayList<>(player.getExile().keySet()),
+                isCardsPlayable(player.getExile().values(), game, possibleTargets),
+                commandObjects,
+                isCommandObjectsPlayable(player, game, possibleTargets),
+                player.getUserData().getAvatarId(),
+                player.getPriorityTimeLeftSecs(),
+                player.getBufferTimeLeft(),
+                player.isTimerActive(),
+                player.isActive(),
+                player.hasLeft(),
+                possibleTargets != null && possibleTargets.contains(this.playerId),
+                chosenTargets != null && chosenTargets.contains(this.playerId),
+                new ArrayList<>(player.getDesignationNames()),
+                player.isMonarch(),
+                player.isInitiative(),
+                pool.getWhite(),
+                pool.getBlue(),
+                pool.getBlack(),
+                pool.getRed(),
+                pool.getGreen(),
+                pool.getColorless()
+        );
+    }
+
     // Not the most optimized, but we just query a few counterName here.
     // More optimized would use a Map<String, CounterView>
     private static int counterOfName(PlayerView player, String name) {
@@ -249,6 +311,12 @@ public class PlayerPanelExt extends javax.swing.JPanel {
 
     public void update(GameView game, PlayerView player, Set<UUID> possibleTargets, Set<UUID> chosenTargets) {
         this.player = player;
+        java.util.List<Object> panelState = getPanelState(game, player, possibleTargets, chosenTargets);
+        if (!lifeDisplayActive && panelState.equals(lastPanelState)) {
+            return;
+        }
+        lastPanelState = panelState;
+
         int pastLife = player.getLife();
         if (playerLives != null) {
             if (playerLives.containsKey(player.getPlayerId())) {
@@ -268,8 +336,10 @@ public class PlayerPanelExt extends javax.swing.JPanel {
                 } else {
                     avatar.loseLifeDisplay();
                 }
+                lifeDisplayActive = true;
             } else {
                 avatar.stopLifeDisplay();
+                lifeDisplayActive = false;
             }
         }
 
@@ -326,17 +396,7 @@ public class PlayerPanelExt extends javax.swing.JPanel {
         setTextForLabel("graveyard zone", graveLabel, grave, graveCards, false, graveColor);
         graveLabel.setToolTipText("Card Types: " + qtyCardTypes(player.getGraveyard()));
 
-        Color commandColor = PreferencesDialog.getCurrentTheme().getTextColor();
-        for (CommandObjectView com : player.getCommandObjectList()) {
-            if (game != null && game.getCanPlayObjects() != null && game.getCanPlayObjects().containsObject(com.getId())) {
-                commandColor = activeValueColor;
-                break;
-            }
-            if (possibleTargets != null && possibleTargets.contains(com.getId())) {
-                commandColor = activeValueColor;
-                break;
-            }
-        }
+        Color commandColor = isCommandObjectsPlayable(player, game, possibleTargets) ? activeValueColor : PreferencesDialog.getCurrentTheme().getTextColor();
         setTextForLabel("command zone", commandLabel, commandZone, player.getCommandObjectList().size(), false, commandColor);
 
         int exileCards = player.getExile().size();
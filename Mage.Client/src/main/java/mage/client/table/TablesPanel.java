@@ -22,6 +22,7 @@ import mage.players.PlayerType;
 import mage.remote.MageRemoteException;
 import mage.util.DeckUtil;
 import mage.util.RandomUtil;
+import mage.view.LobbyDeltaView;
 import mage.view.MatchView;
 import mage.view.RoomUsersView;
 import mage.view.TableView;
@@ -1848,6 +1849,11 @@ class UpdateTablesTask extends SwingWorker<Void, Collection<TableView>> {
 
     private int count = 0;
 
+    // server sends changed tables only, so keep all known tables here (new task starts from full list)
+    private final Map<UUID, TableView> tables = new LinkedHashMap<>();
+    private UUID tablesEpoch = null;
+    private long tablesVersion = 0;
+
     UpdateTablesTask(UUID roomId, TablesPanel panel) {
 
         this.roomId = roomId;
@@ -1857,9 +1863,12 @@ class UpdateTablesTask extends SwingWorker<Void, Collection<TableView>> {
     @Override
     protected Void doInBackground() throws Exception {
         while (!isCancelled()) {
-            Collection<TableView> tables = SessionHandler.getTables(roomId);
-            if (tables != null) {
-                this.publish(tables);
+            LobbyDeltaView<TableView> delta = SessionHandler.getTablesDelta(roomId, tablesEpoch, tablesVersion);
+            if (delta != null) {
+                delta.applyTo(tables, TableView::getTableId);
+                tablesEpoch = delta.getEpoch();
+                tablesVersion = delta.getVersion();
+                this.publish(new ArrayList<>(tables.values()));
             }
             TimeUnit.SECONDS.sleep(TablesPanel.randomizeTimout(TablesPanel.REFRESH_ACTIVE_TABLES_SECS));
         }
@@ -1937,6 +1946,10 @@ class UpdateMatchesTask extends SwingWorker<Void, Collection<MatchView>> {
 
     private static final Logger logger = Logger.getLogger(UpdateTablesTask.class);
 
+    private final Map<UUID, MatchView> matches = new LinkedHashMap<>();
+    private UUID matchesEpoch = null;
+    private long matchesVersion = 0;
+
     UpdateMatchesTask(UUID roomId, TablesPanel panel) {
         this.roomId = roomId;
         this.panel = panel;
@@ -1945,7 +1958,13 @@ class UpdateMatchesTask extends SwingWorker<Void, Collection<MatchView>> {
     @Override
     protected Void doInBackground() throws Exception {
         while (!isCancelled()) {
-            this.publish(SessionHandler.getFinishedMatches(roomId));
+            LobbyDeltaView<MatchView> delta = SessionHandler.getFinishedMatchesDelta(roomId, matchesEpoch, matchesVersion);
+            if (delta != null && !delta.isEmpty()) {
+                delta.applyTo(matches, MatchView::getTableId);
+                matchesEpoch = delta.getEpoch();
+                matchesVersion = delta.getVersion();
+                this.publish(new ArrayList<>(matches.values()));
+            }
             TimeUnit.SECONDS.sleep(TablesPanel.randomizeTimout(TablesPanel.REFRESH_FINISHED_TABLES_SECS));
         }
         return null;
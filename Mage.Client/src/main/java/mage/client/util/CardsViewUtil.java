@@ -1,5 +1,7 @@
 package mage.client.util;
 
+import mage.MageInt;
+import mage.abilities.icon.CardIcon;
 import mage.cards.Card;
 import mage.cards.repository.CardInfo;
 import mage.cards.repository.CardRepository;
@@ -7,6 +9,7 @@ import mage.view.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -65,4 +68,78 @@ public final class CardsViewUtil {
         }
         return cards;
     }
+
+    /**
+     * Game views are full snapshots without versions, so client compares objects with the same id to find
+     * unchanged cards and skip GUI updates for it (card panel update is expensive: tooltip text, icons, re-render)
+     *
+     * @return true if new card's view has same visible state as shown card
+     */
+    public static boolean isSameCardState(CardView before, CardView after) {
+        if (before == after) {
+            return true;
+        }
+        if (before == null || after == null
+                || !before.getId().equals(after.getId())
+                || !CardView.cardViewEquals(before, after)) {
+            return false;
+        }
+
+        if (before.isPlayable() != after.isPlayable()
+                || before.getPlayableStats().getPlayableAmount() != after.getPlayableStats().getPlayableAmount()
+                || before.getPlayableStats().getPlayableImportantAmount() != after.getPlayableStats().getPlayableImportantAmount()
+                || !before.getPlayableStats().getPlayableAbilityNames().equals(after.getPlayableStats().getPlayableAbilityNames())
+                || before.isCanAttack() != after.isCanAttack()
+                || before.isCanBlock() != after.isCanBlock()
+                || before.isChoosable() != after.isChoosable()
+                || before.isSelected() != after.isSelected()
+                || before.isTransformed() != after.isTransformed()
+                || before.canTransform() != after.canTransform()
+                || before.isToken() != after.isToken()
+                || !Objects.equals(before.getTargets(), after.getTargets())
+                || before.getAbilityType() != after.getAbilityType()
+                || !isSameValue(before.getOriginalPower(), after.getOriginalPower())
+                || !isSameValue(before.getOriginalToughness(), after.getOriginalToughness())
+                || !isSameIcons(before.getCardIcons(), after.getCardIcons())) {
+            return false;
+        }
+
+        if (!(before instanceof PermanentView)) {
+            return true;
+        }
+        PermanentView permanentBefore = (PermanentView) before;
+        PermanentView permanentAfter = (PermanentView) after;
+        return permanentBefore.isTapped() == permanentAfter.isTapped()
+                && permanentBefore.isFlipped() == permanentAfter.isFlipped()
+                && permanentBefore.isPhasedIn() == permanentAfter.isPhasedIn()
+                && permanentBefore.isCopy() == permanentAfter.isCopy()
+                && permanentBefore.isControlled() == permanentAfter.isControlled()
+                && Objects.equals(permanentBefore.getNameController(), permanentAfter.getNameController())
+                && Objects.equals(permanentBefore.getAttachments(), permanentAfter.getAttachments())
+                && Objects.equals(permanentBefore.getAttachedTo(), permanentAfter.getAttachedTo())
+                && CardView.cardViewEquals(permanentBefore.getOriginal(), permanentAfter.getOriginal());
+    }
+
+    private static boolean isSameValue(MageInt before, MageInt after) {
+        if (before == null || after == null) {
+            return before == after;
+        }
+        return before.getValue() == after.getValue();
+    }
+
+    private static boolean isSameIcons(List<CardIcon> before, List<CardIcon> after) {
+        if (before.size() != after.size()) {
+            return false;
+        }
+        for (int i = 0; i < before.size(); i++) {
+            CardIcon iconBefore = before.get(i);
+            CardIcon iconAfter = after.get(i);
+            if (iconBefore.getIconType() != iconAfter.getIconType()
+                    || !Objects.equals(iconBefore.getText(), iconAfter.getText())
+                    || !Objects.equals(iconBefore.getHint(), iconAfter.getHint())) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
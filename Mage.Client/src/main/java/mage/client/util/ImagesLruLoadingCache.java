@@ -0,0 +1,54 @@
+package mage.client.util;
+
+import com.google.common.base.Function;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.ForwardingLoadingCache;
+import com.google.common.cache.LoadingCache;
+import org.apache.log4j.Logger;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.cache.CacheBuilder.newBuilder;
+
+/**
+ * Loading cache with LRU eviction by the used memory (unlike {@link SoftValuesLoadingCache} it keeps
+ * images under memory pressure, so small images will not be decoded again and again)
+ */
+public class ImagesLruLoadingCache<K, V> extends ForwardingLoadingCache<K, Optional<V>> {
+
+    private static final Logger logger = Logger.getLogger(ImagesLruLoadingCache.class);
+
+    private final LoadingCache<K, Optional<V>> cache;
+
+    public ImagesLruLoadingCache(long maxBytes, java.util.function.Function<V, Integer> bytesCounter, CacheLoader<K, Optional<V>> loader) {
+        cache = newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((K key, Optional<V> value) -> value.map(bytesCounter).orElse(0))
+                .build(loader);
+    }
+
+    @Override
+    protected LoadingCache<K, Optional<V>> delegate() {
+        return cache;
+    }
+
+    public V getOrNull(K key) {
+        try {
+            return get(key).orElse(null);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof OutOfMemoryError) {
+                logger.warn("Out of memory error: try to increase free memory in launcher options (-xmx param)");
+                return null;
+            } else {
+                throw new RuntimeException(e);
+            }
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    public static <K, V> ImagesLruLoadingCache<K, V> from(long maxBytes, java.util.function.Function<V, Integer> bytesCounter, Function<K, V> loader) {
+        return new ImagesLruLoadingCache<>(maxBytes, bytesCounter, CacheLoader.from(k -> Optional.ofNullable(loader.apply(k))));
+    }
+}
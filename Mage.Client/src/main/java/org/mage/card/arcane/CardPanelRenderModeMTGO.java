@@ -262,9 +262,27 @@ public class CardPanelRenderModeMTGO extends CardPanel {
 
     @Override
     public void update(CardView card) {
+        CardView oldCard = getGameCard();
+        boolean oldChoosable = isChoosable();
+        boolean oldSelected = isSelected();
+        boolean oldTransformed = isTransformed();
+
         // Update super
         super.update(card);
 
+        // Keep rendered image if card looks the same (same checks as in render cache's key)
+        CardView newCard = getGameCard();
+        if (oldCard != null
+                && CardView.cardViewEquals(oldCard, newCard)
+                && oldCard.isPlayable() == newCard.isPlayable()
+                && oldCard.isCanAttack() == newCard.isCanAttack()
+                && oldCard.isCanBlock() == newCard.isCanBlock()
+                && oldChoosable == isChoosable()
+                && oldSelected == isSelected()
+                && oldTransformed == isTransformed()) {
+            return;
+        }
+
         // Update renderer
         cardImage = null;
         cardRenderer = cardRendererFactory.create(getGameCard(), cardRenderMode);
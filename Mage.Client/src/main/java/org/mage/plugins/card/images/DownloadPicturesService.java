@@ -966,6 +966,8 @@ public class DownloadPicturesService extends DefaultBoundedRangeModel implements
         } else {
             // finished
             updateProgressMessage("Image download DONE, saving last files and refreshing stats... Please wait.");
+            // re-downloaded images must be loaded from new files instead images pack
+            ImageCache.resetImagesPack();
             List<CardDownloadData> downloadedCards = Collections.synchronizedList(new ArrayList<>());
             DownloadPicturesService.this.cardsMissing.parallelStream().forEach(cardDownloadData -> {
                 TFile file = new TFile(CardImageUtils.buildImagePathToCardOrToken(cardDownloadData));
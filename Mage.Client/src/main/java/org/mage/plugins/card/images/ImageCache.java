@@ -3,6 +3,7 @@ package org.mage.plugins.card.images;
 import mage.abilities.icon.CardIconColor;
 import mage.client.constants.Constants;
 import mage.client.util.ImageCaches;
+import mage.client.util.ImagesLruLoadingCache;
 import mage.client.util.SoftValuesLoadingCache;
 import mage.client.util.TransformedImageCache;
 import mage.view.CardView;
@@ -25,6 +26,8 @@ import java.util.regex.Pattern;
  * that the images may be garbage collected when they are not needed any more,
  * but will be kept as long as possible.
  * <p>
+ * Small images from optional images pack (see {@link ImagePack}) are stored in LRU cache limited by used memory.
+ * <p>
  * It used to refresh themes at runtime too. Use GUISizeHelper.refreshGUIAndCards()
  *
  * @author JayDi85
@@ -35,6 +38,13 @@ public final class ImageCache {
 
     // global cache for both mtgo and image render modes
     private static final SoftValuesLoadingCache<String, ImageCacheData> SHARED_CARD_IMAGES_CACHE = ImageCaches.register(SoftValuesLoadingCache.from(ImageCache::createCardOrTokenImage));
+    // small images from images pack, see ImagePack (format: image key #pack width)
+    private static final long PACK_IMAGES_CACHE_MAX_BYTES = Math.min(256L * 1024 * 1024, Runtime.getRuntime().maxMemory() / 8);
+    private static final ImagesLruLoadingCache<String, ImageCacheData> SHARED_PACK_IMAGES_CACHE = ImageCaches.register(ImagesLruLoadingCache.from(
+            PACK_IMAGES_CACHE_MAX_BYTES,
+            data -> data.getImage() == null ? 0 : data.getImage().getWidth() * data.getImage().getHeight() * 4,
+            ImageCache::createPackImage
+    ));
     private static final SoftValuesLoadingCache<String, ImageCacheData> SHARED_CARD_ICONS_CACHE = ImageCaches.register(SoftValuesLoadingCache.from(ImageCache::createIcon));
 
     // format: name #setcode #imagenumber #cardnumber #size #usesVariousArt
@@ -47,6 +57,34 @@ public final class ImageCache {
     }
 
     private static ImageCacheData createCardOrTokenImage(String key) {
+        String path = findImagePath(key);
+        TFile file = getTFile(path);
+        if (file == null) {
+            return new ImageCacheData(path, null);
+        }
+
+        BufferedImage image = loadImage(file);
+        image = getRoundCorner(image);
+        return new ImageCacheData(path, image);
+    }
+
+    private static ImageCacheData createPackImage(String key) {
+        int pos = key.lastIndexOf('#');
+        int packWidth = Integer.parseInt(key.substring(pos + 1));
+        ImagePack pack = ImagePack.getInstance();
+        if (pack == null) {
+            return null;
+        }
+
+        String path = findImagePath(key.substring(0, pos));
+        BufferedImage image = pack.loadImage(path, packWidth);
+        if (image == null) {
+            return null;
+        }
+        return new ImageCacheData(path, getRoundCorner(image));
+    }
+
+    private static String findImagePath(String key) {
         boolean usesVariousArt = false;
         if (key.matches(".*#usesVariousArt.*")) {
             usesVariousArt = true;
@@ -96,14 +134,7 @@ public final class ImageCache {
                 path = CardImageUtils.buildImagePathToCardOrToken(info);
             }
 
-            TFile file = getTFile(path);
-            if (file == null) {
-                return new ImageCacheData(path, null);
-            }
-
-            BufferedImage image = loadImage(file);
-            image = getRoundCorner(image);
-            return new ImageCacheData(path, image);
+            return path;
         } else {
             throw new IllegalArgumentException("Unknown card image's key format: " + key);
         }
@@ -315,6 +346,11 @@ public final class ImageCache {
      * @return
      */
     public static ImageCacheData getCardImage(CardView card, int width, int height) {
+        ImageCacheData packData = getCardImageFromPack(card, width, height);
+        if (packData != null) {
+            return packData;
+        }
+
         String key = getKey(card, card.getName(), width);
         ImageCacheData data = getCardImage(key);
         if (data.getImage() == null) {
@@ -332,6 +368,45 @@ public final class ImageCache {
         return data;
     }
 
+    /**
+     * Use new images pack (e.g. after pack rebuild)
+     */
+    public static void resetImagesPack() {
+        ImagePack.reset();
+        SHARED_PACK_IMAGES_CACHE.invalidateAll();
+    }
+
+    /**
+     * Small card image from images pack, see {@link ImagePack}
+     *
+     * @return null if pack doesn't exist, doesn't contain the image or card is too big
+     */
+    private static ImageCacheData getCardImageFromPack(CardView card, int width, int height) {
+        int packWidth = ImagePack.findStandardWidth(width);
+        if (width <= 0 || packWidth == 0 || ImagePack.getInstance() == null) {
+            return null;
+        }
+
+        ImageCacheData data;
+        try {
+            data = SHARED_PACK_IMAGES_CACHE.getOrNull(getKey(card, card.getName(), 0) + '#' + packWidth);
+        } catch (Exception e) {
+            LOGGER.error("Error while loading card image from images pack: " + e, e);
+            return null;
+        }
+        if (data == null || data.getImage() == null) {
+            return null;
+        }
+
+        // cached data must be unchanged, so resized image goes to the new data
+        double scale = Math.min((double) width / data.getImage().getWidth(), (double) height / data.getImage().getHeight());
+        if (scale >= 1) {
+            return new ImageCacheData(data.getPath(), data.getImage());
+        }
+        BufferedImage newImage = TransformedImageCache.getResizedImage(data.getImage(), (int) (data.getImage().getWidth() * scale), (int) (data.getImage().getHeight() * scale));
+        return new ImageCacheData(data.getPath(), newImage);
+    }
+
     /**
      * Returns the image appropriate to display for a card in a picture panel,
      * but only it was ALREADY LOADED. That is, the call is immediate and will
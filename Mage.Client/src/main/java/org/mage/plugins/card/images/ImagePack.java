@@ -0,0 +1,256 @@
+package org.mage.plugins.card.images;
+
+import net.java.truevfs.access.TFile;
+import org.apache.log4j.Logger;
+import org.mage.plugins.card.utils.CardImageUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Optional local images pack: all downloaded card images pre-scaled to few standard widths and stored in one
+ * indexed file, see {@link ImagePackBuilder}. File is memory-mapped, so reading a small image is
+ * a map lookup and a small jpg decode instead of full size image loading from zip archive.
+ * <p>
+ * File format:
+ * <pre>
+ * header: magic (int), version (int), index offset (long)
+ * data:   jpg images, one image never crosses a mapped chunk's border
+ * index:  entries count (int), for each entry: image path (utf), source size (long), source modified time (long),
+ *         sizes count (byte), for each size: width (short), offset (long), length (int)
+ * </pre>
+ * Image path is relative to images folder (see {@link #makeRelativePath(String, String)}).
+ * Images with changed source file (e.g. re-downloaded) are ignored, so it loads from the source file until pack rebuild.
+ * <p>
+ * Pack is used only if file exists in images folder (user can build it from download menu).
+ */
+public final class ImagePack {
+
+    private static final Logger LOGGER = Logger.getLogger(ImagePack.class);
+
+    public static final String FILE_NAME = "images.pack";
+    static final String NEW_FILE_NAME = FILE_NAME + ".new"; // fresh pack, it replaces current on next open
+    static final int MAGIC = 0x584D4950; // XMIP
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 4 + 4 + 8;
+    static final long CHUNK_SIZE = 1L << 30; // max memory-mapped buffer size is 2 GB, so big pack uses few buffers
+
+    // standard widths to render cards (small hand/battlefield cards, normal cards, big cards)
+    static final int[] STANDARD_WIDTHS = {128, 192, 288, 432};
+
+    private static final Object lock = new Object();
+    private static ImagePack instance = null;
+    private static boolean instanceChecked = false;
+    private static String instanceImagesDir = null;
+
+    private final File file;
+    private final Map<String, Entry> entries;
+    private final MappedByteBuffer[] chunks;
+
+    private static final class Entry {
+        final long sourceSize;
+        final long sourceModified;
+        final short[] widths;
+        final long[] offsets;
+        final int[] lengths;
+
+        Entry(long sourceSize, long sourceModified, int sizesCount) {
+            this.sourceSize = sourceSize;
+            this.sourceModified = sourceModified;
+            this.widths = new short[sizesCount];
+            this.offsets = new long[sizesCount];
+            this.lengths = new int[sizesCount];
+        }
+    }
+
+    private ImagePack(File file) throws IOException {
+        this.file = file;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            long fileSize = channel.size();
+            if (raf.readInt() != MAGIC || raf.readInt() != VERSION) {
+                throw new IOException("unknown file format");
+            }
+            long indexOffset = raf.readLong();
+            if (indexOffset < HEADER_SIZE || indexOffset > fileSize) {
+                throw new IOException("broken index offset " + indexOffset);
+            }
+
+            // data
+            int chunksCount = (int) ((indexOffset - HEADER_SIZE + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            this.chunks = new MappedByteBuffer[chunksCount];
+            for (int i = 0; i < chunksCount; i++) {
+                long from = HEADER_SIZE + i * CHUNK_SIZE;
+                this.chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(CHUNK_SIZE, indexOffset - from));
+            }
+
+            // index
+            DataInputStream index = new DataInputStream(new ByteBufferInputStream(
+                    channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, fileSize - indexOffset)));
+            int entriesCount = index.readInt();
+            this.entries = new HashMap<>(entriesCount * 2);
+            for (int i = 0; i < entriesCount; i++) {
+                String path = index.readUTF();
+                Entry entry = new Entry(index.readLong(), index.readLong(), index.readByte());
+                for (int n = 0; n < entry.widths.length; n++) {
+                    entry.widths[n] = index.readShort();
+                    entry.offsets[n] = index.readLong();
+                    entry.lengths[n] = index.readInt();
+                }
+                this.entries.put(path, entry);
+            }
+        }
+    }
+
+    /**
+     * Opened pack for current images folder
+     *
+     * @return null if pack doesn't exist or broken
+     */
+    public static ImagePack getInstance() {
+        String imagesDir = CardImageUtils.getImagesDir();
+        synchronized (lock) {
+            if (!instanceChecked || !imagesDir.equals(instanceImagesDir)) {
+                instance = open(imagesDir);
+                instanceChecked = true;
+                instanceImagesDir = imagesDir;
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Close current pack, so new pack will be opened on next usage
+     */
+    public static void reset() {
+        synchronized (lock) {
+            instance = null;
+            instanceChecked = false;
+        }
+    }
+
+    private static ImagePack open(String imagesDir) {
+        File file = new File(imagesDir, FILE_NAME);
+        File newFile = new File(imagesDir, NEW_FILE_NAME);
+        if (newFile.exists()) {
+            try {
+                Files.move(newFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                // current pack can be locked by memory-mapping (windows), so use it until restart
+                LOGGER.warn("Images pack: can't replace by new pack, restart app to use it: " + e);
+            }
+        }
+        if (!file.exists()) {
+            return null;
+        }
+
+        try {
+            ImagePack pack = new ImagePack(file);
+            LOGGER.info("Images pack: loaded " + pack.entries.size() + " images from " + file.getPath());
+            return pack;
+        } catch (Throwable e) {
+            LOGGER.error("Images pack: can't load " + file.getPath() + ", rebuild it - " + e, e);
+            return null;
+        }
+    }
+
+    /**
+     * Find pack's image width to render card with the given width (smallest standard width that is not less)
+     *
+     * @return 0 if card is too big for the pack
+     */
+    public static int findStandardWidth(int width) {
+        for (int standardWidth : STANDARD_WIDTHS) {
+            if (standardWidth >= width) {
+                return standardWidth;
+            }
+        }
+        return 0;
+    }
+
+    static String makeRelativePath(String imagesDir, String path) {
+        String res = path;
+        if (res.startsWith(imagesDir)) {
+            res = res.substring(imagesDir.length());
+        }
+        res = res.replace('\\', '/');
+        while (res.startsWith("/")) {
+            res = res.substring(1);
+        }
+        return res;
+    }
+
+    /**
+     * Decode image from the pack
+     *
+     * @param path  full image path (same as images in archives)
+     * @param width one of the standard widths
+     * @return null if pack doesn't contain image or source image was changed after pack build
+     */
+    public BufferedImage loadImage(String path, int width) {
+        Entry entry = entries.get(makeRelativePath(file.getParent(), path));
+        if (entry == null) {
+            return null;
+        }
+        TFile source = new TFile(path);
+        if (source.length() != entry.sourceSize || source.lastModified() != entry.sourceModified) {
+            return null;
+        }
+        for (int i = 0; i < entry.widths.length; i++) {
+            if (entry.widths[i] == width) {
+                ByteBuffer data = chunks[(int) (entry.offsets[i] / CHUNK_SIZE)].duplicate();
+                int from = (int) (entry.offsets[i] % CHUNK_SIZE);
+                data.position(from);
+                data.limit(from + entry.lengths[i]);
+                try {
+                    return ImageIO.read(new ByteBufferInputStream(data));
+                } catch (IOException e) {
+                    LOGGER.error("Images pack: can't read image " + path + " - " + e, e);
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.mage.plugins.card.images;
+
+import mage.client.constants.Constants;
+import net.java.truevfs.access.TFile;
+import org.apache.log4j.Logger;
+import org.mage.plugins.card.utils.CardImageUtils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds {@link ImagePack} from all downloaded card and token images (folders and zip archives).
+ * Images bigger than pack's standard widths are scaled down and stored as jpg.
+ */
+public final class ImagePackBuilder {
+
+    private static final Logger LOGGER = Logger.getLogger(ImagePackBuilder.class);
+
+    private static final float JPG_QUALITY = 0.9f;
+
+    private ImagePackBuilder() {
+    }
+
+    /**
+     * Build new pack for current images folder, it can take few minutes for all images
+     *
+     * @return images count in the new pack
+     */
+    public static int build() throws IOException {
+        long startTime = System.currentTimeMillis();
+        String imagesDir = CardImageUtils.getImagesDir();
+
+        List<TFile> images = new ArrayList<>();
+        findImages(new TFile(imagesDir), images);
+        LOGGER.info("Images pack: found " + images.size() + " images, building...");
+
+        File tempFile = new File(imagesDir, ImagePack.NEW_FILE_NAME + ".building");
+        try {
+            int imagesCount = writePack(tempFile, imagesDir, images);
+
+            // new pack will be used after old pack closed (it can be locked by memory-mapping)
+            File newFile = new File(imagesDir, ImagePack.NEW_FILE_NAME);
+            if ((newFile.exists() && !newFile.delete()) || !tempFile.renameTo(newFile)) {
+                throw new IOException("can't rename " + tempFile.getPath() + " to " + newFile.getPath());
+            }
+            ImageCache.resetImagesPack();
+
+            LOGGER.info("Images pack: added " + imagesCount + " images in " + (System.currentTimeMillis() - startTime) / 1000 + " secs");
+            return imagesCount;
+        } finally {
+            // unfinished pack (e.g. on errors or no free disk space)
+            if (tempFile.exists() && !tempFile.delete()) {
+                LOGGER.warn("Images pack: can't delete temp file " + tempFile.getPath());
+            }
+        }
+    }
+
+    private static int writePack(File tempFile, String imagesDir, List<TFile> images) throws IOException {
+        int imagesCount = 0;
+        try (RandomAccessFile out = new RandomAccessFile(tempFile, "rw")) {
+            out.setLength(0);
+            out.writeInt(ImagePack.MAGIC);
+            out.writeInt(ImagePack.VERSION);
+            out.writeLong(0); // index offset, see below
+
+            ByteArrayOutputStream index = new ByteArrayOutputStream();
+            DataOutputStream indexOut = new DataOutputStream(index);
+            for (TFile imageFile : images) {
+                BufferedImage original = ImageCache.loadImage(imageFile);
+                if (original == null) {
+                    continue;
+                }
+
+                List<byte[]> datas = new ArrayList<>();
+                List<Integer> widths = new ArrayList<>();
+                for (int width : ImagePack.STANDARD_WIDTHS) {
+                    if (width < original.getWidth()) {
+                        datas.add(writeJpg(scaleImage(original, width)));
+                        widths.add(width);
+                    }
+                }
+                if (datas.isEmpty()) {
+                    // small images can be used as is
+                    continue;
+                }
+
+                indexOut.writeUTF(ImagePack.makeRelativePath(imagesDir, imageFile.getPath()));
+                indexOut.writeLong(imageFile.length());
+                indexOut.writeLong(imageFile.lastModified());
+                indexOut.writeByte(datas.size());
+                for (int i = 0; i < datas.size(); i++) {
+                    byte[] data = datas.get(i);
+                    long dataOffset = out.getFilePointer() - ImagePack.HEADER_SIZE;
+                    long chunkEnd = (dataOffset / ImagePack.CHUNK_SIZE + 1) * ImagePack.CHUNK_SIZE;
+                    if (dataOffset + data.length > chunkEnd) {
+                        // image can't cross the chunk's border
+                        dataOffset = chunkEnd;
+                        out.seek(ImagePack.HEADER_SIZE + dataOffset);
+                    }
+                    out.write(data);
+                    indexOut.writeShort(widths.get(i));
+                    indexOut.writeLong(dataOffset);
+                    indexOut.writeInt(data.length);
+                }
+                imagesCount++;
+            }
+
+            long indexOffset = out.getFilePointer();
+            out.writeInt(imagesCount);
+            out.write(index.toByteArray());
+            out.seek(4 + 4);
+            out.writeLong(indexOffset);
+        }
+        return imagesCount;
+    }
+
+    private static void findImages(TFile dir, List<TFile> images) {
+        TFile[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (TFile file : files) {
+            if (file.isDirectory()) {
+                // card backs and other default images are small and loaded one time
+                if (!file.getName().equals(Constants.RESOURCE_PATH_DEFAULT_IMAGES.replace(File.separator, ""))) {
+                    findImages(file, images);
+                }
+            } else if (file.getName().toLowerCase(Locale.ENGLISH).endsWith(".jpg")) {
+                images.add(file);
+            }
+        }
+    }
+
+    private static BufferedImage scaleImage(BufferedImage original, int width) {
+        int height = original.getHeight() * width / original.getWidth();
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = scaled.createGraphics();
+        try {
+            g2.drawImage(original.getScaledInstance(width, height, Image.SCALE_SMOOTH), 0, 0, null);
+        } finally {
+            g2.dispose();
+        }
+        return scaled;
+    }
+
+    private static byte[] writeJpg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ByteArrayOutputStream res = new ByteArrayOutputStream();
+        try (ImageOutputStream out = new MemoryCacheImageOutputStream(res)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return res.toByteArray();
+    }
+}
@@ -55,6 +55,9 @@ public interface MageServer {
     // TODO: miss session
     List<MatchView> roomGetFinishedMatches(UUID roomId) throws MageException;
 
+    // TODO: miss session
+    LobbyDeltaView<MatchView> roomGetFinishedMatchesDelta(UUID roomId, UUID sinceEpoch, long sinceVersion) throws MageException;
+
     TableView roomCreateTable(String sessionId, UUID roomId, MatchOptions matchOptions) throws MageException;
 
     TableView roomCreateTournament(String sessionId, UUID roomId, TournamentOptions tournamentOptions) throws MageException;
@@ -85,6 +88,9 @@ public interface MageServer {
     // TODO: miss session
     List<TableView> roomGetAllTables(UUID roomId) throws MageException;
 
+    // TODO: miss session
+    LobbyDeltaView<TableView> roomGetTablesDelta(UUID roomId, UUID sinceEpoch, long sinceVersion) throws MageException;
+
     // TODO: miss session
     void chatSendMessage(UUID chatId, String userName, String message) throws MageException;
 
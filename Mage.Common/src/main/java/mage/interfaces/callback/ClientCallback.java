@@ -1,6 +1,7 @@
 package mage.interfaces.callback;
 
 import mage.remote.traffic.ZippedObject;
+import mage.remote.traffic.ZippedObjectImpl;
 import mage.utils.CompressUtil;
 import mage.util.ThreadUtils;
 
@@ -76,6 +77,16 @@ public class ClientCallback implements Serializable {
         }
     }
 
+    /**
+     * Compressed data size in bytes (for traffic stats), -1 for non compressed data
+     */
+    public int getCompressedDataSize() {
+        if (this.data instanceof ZippedObjectImpl) {
+            return ((ZippedObjectImpl<?>) this.data).getDataSize();
+        }
+        return -1;
+    }
+
     public void decompressData() {
         if (this.data instanceof ZippedObject) {
             this.data = CompressUtil.decompress(this.data);
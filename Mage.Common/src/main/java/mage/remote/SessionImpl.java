@@ -871,6 +871,36 @@ public class SessionImpl implements Session {
         return new ArrayList<>();
     }
 
+    @Override
+    public LobbyDeltaView<TableView> getTablesDelta(UUID roomId, UUID sinceEpoch, long sinceVersion) throws MageRemoteException {
+        try {
+            if (isConnected()) {
+                return server.roomGetTablesDelta(roomId, sinceEpoch, sinceVersion);
+            }
+        } catch (MageException ex) {
+            handleMageException(ex);
+            throw new MageRemoteException();
+        } catch (Throwable t) {
+            handleThrowable(t);
+        }
+        return null;
+    }
+
+    @Override
+    public LobbyDeltaView<MatchView> getFinishedMatchesDelta(UUID roomId, UUID sinceEpoch, long sinceVersion) throws MageRemoteException {
+        try {
+            if (isConnected()) {
+                return server.roomGetFinishedMatchesDelta(roomId, sinceEpoch, sinceVersion);
+            }
+        } catch (MageException ex) {
+            handleMageException(ex);
+            throw new MageRemoteException();
+        } catch (Throwable t) {
+            handleThrowable(t);
+        }
+        return null;
+    }
+
     @Override
     public Collection<RoomUsersView> getRoomUsers(UUID roomId) throws MageRemoteException {
         try {
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import mage.remote.MageRemoteException;
+import mage.view.LobbyDeltaView;
 import mage.view.MatchView;
 import mage.view.RoomUsersView;
 import mage.view.TableView;
@@ -27,6 +28,15 @@ public interface ServerState {
 
     Collection<MatchView> getFinishedMatches(UUID roomId) throws MageRemoteException;
 
+    /**
+     * Lobby's tables changes since known epoch and version (use null and 0 for full list)
+     *
+     * @return null on disconnected or unknown room
+     */
+    LobbyDeltaView<TableView> getTablesDelta(UUID roomId, UUID sinceEpoch, long sinceVersion) throws MageRemoteException;
+
+    LobbyDeltaView<MatchView> getFinishedMatchesDelta(UUID roomId, UUID sinceEpoch, long sinceVersion) throws MageRemoteException;
+
     String getVersionInfo();
 
     Boolean isServerReady();
@@ -0,0 +1,174 @@
+package mage.remote.traffic;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Java serialization compressed by fast deflate with preset dictionary.
+ * <p>
+ * Most of the small view payloads are serialization metadata (class descriptors and field names), so
+ * dictionary contains it for the views classes. Dictionary builds from the current classes, so client and
+ * server must use same dictionary: codec's version is a checksum of the dictionary and sends with each payload
+ * (see {@link ZippedObjectImpl}), so decode with another dictionary fails instead of wrong data.
+ */
+public class DictionaryTrafficCodec implements TrafficCodec {
+
+    public static final byte ID = 1;
+
+    private static final int COMPRESSION_LEVEL = Deflater.BEST_SPEED;
+    private static final int MAX_DICTIONARY_SIZE = 32 * 1024; // deflate's window size
+
+    // rare classes first, most used at the end (deflate prefers short distances)
+    private static final String[] DICTIONARY_CLASSES = {
+            "mage.view.GameEndView",
+            "mage.view.AbilityPickerView",
+            "mage.view.GameClientMessage",
+            "mage.view.TableClientMessage",
+            "mage.view.DraftPickView",
+            "mage.view.DraftView",
+            "mage.view.TableView",
+            "mage.view.SeatView",
+            "mage.view.UserView",
+            "mage.view.ExileView",
+            "mage.view.RevealedView",
+            "mage.view.LookedAtView",
+            "mage.view.CombatGroupView",
+            "mage.view.CommanderView",
+            "mage.view.EmblemView",
+            "mage.view.DungeonView",
+            "mage.view.PlaneView",
+            "mage.view.StackAbilityView",
+            "mage.view.AbilityView",
+            "mage.view.ManaPoolView",
+            "mage.view.SimpleCardView",
+            "mage.view.SimpleCardsView",
+            "mage.view.CounterView",
+            "mage.view.PlayerView",
+            "mage.view.GameView",
+            "mage.view.CardsView",
+            "mage.view.PermanentView",
+            "mage.view.CardView"
+    };
+
+    private static final String[] DICTIONARY_STRINGS = {
+            "java.util.UUID", "leastSigBitsJ", "mostSigBitsJ",
+            "java.util.ArrayList", "java.util.HashMap", "java.util.LinkedHashMap", "java.util.LinkedHashSet",
+            "java.lang.Integer", "java.lang.Number", "java.lang.Boolean", "java.lang.Enum", "java.lang.String",
+            "mage.ObjectColor", "mage.constants.CardType", "mage.constants.SuperType", "mage.constants.SubType",
+            "mage.constants.Rarity", "mage.constants.Zone", "mage.constants.PhaseStep", "mage.constants.TurnPhase",
+            "mage.MageObjectImpl"
+    };
+
+    private static final byte[] dictionary = createDictionary();
+    private static final int dictionaryVersion = calcDictionaryVersion(dictionary);
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return "dictionary";
+    }
+
+    @Override
+    public int getVersion() {
+        return dictionaryVersion;
+    }
+
+    @Override
+    public byte[] encode(Object object) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(COMPRESSION_LEVEL);
+        try {
+            deflater.setDictionary(dictionary);
+            try (ObjectOutputStream oos = new ObjectOutputStream(new DeflaterOutputStream(bos, deflater))) {
+                oos.writeObject(object);
+            }
+        } finally {
+            deflater.end();
+        }
+        return bos.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] data) throws IOException, ClassNotFoundException {
+        Inflater inflater = new DictionaryInflater();
+        try (ObjectInputStream ois = new ObjectInputStream(new InflaterInputStream(new ByteArrayInputStream(data), inflater))) {
+            return ois.readObject();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Inflater must set dictionary on demand (after first inflate call)
+     */
+    private static class DictionaryInflater extends Inflater {
+
+        @Override
+        public int inflate(byte[] b, int off, int len) throws java.util.zip.DataFormatException {
+            int res = super.inflate(b, off, len);
+            if (res == 0 && needsDictionary()) {
+                setDictionary(dictionary);
+                res = super.inflate(b, off, len);
+            }
+            return res;
+        }
+    }
+
+    private static int calcDictionaryVersion(byte[] dictionary) {
+        CRC32 crc = new CRC32();
+        crc.update(dictionary, 0, dictionary.length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] createDictionary() {
+        List<String> items = new ArrayList<>(Arrays.asList(DICTIONARY_STRINGS));
+        for (String className : DICTIONARY_CLASSES) {
+            try {
+                ObjectStreamClass streamClass = ObjectStreamClass.lookup(Class.forName(className));
+                if (streamClass == null) {
+                    continue;
+                }
+                // same order as serialization uses
+                for (ObjectStreamField field : streamClass.getFields()) {
+                    items.add(field.getName());
+                    if (!field.isPrimitive()) {
+                        items.add(field.getTypeString());
+                    }
+                }
+                items.add(className);
+            } catch (ClassNotFoundException e) {
+                // ignore unknown classes (dictionary is an optimization only)
+            }
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        for (String item : items) {
+            byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+            bos.write(bytes, 0, bytes.length);
+        }
+        byte[] res = bos.toByteArray();
+        if (res.length > MAX_DICTIONARY_SIZE) {
+            // keep the end (most used classes)
+            res = Arrays.copyOfRange(res, res.length - MAX_DICTIONARY_SIZE, res.length);
+        }
+        return res;
+    }
+}
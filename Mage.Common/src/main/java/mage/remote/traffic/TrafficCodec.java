@@ -0,0 +1,24 @@
+package mage.remote.traffic;
+
+import java.io.IOException;
+
+/**
+ * Network: encoding of the client-server data (used by {@link ZippedObjectImpl})
+ * <p>
+ * Each codec must have unique id, so data can be decoded by any side regardless of the default codec.
+ */
+public interface TrafficCodec {
+
+    byte getId();
+
+    String getName();
+
+    /**
+     * Data format version, must be same on both sides (decode of data with another version fails)
+     */
+    int getVersion();
+
+    byte[] encode(Object object) throws IOException;
+
+    Object decode(byte[] data) throws IOException, ClassNotFoundException;
+}
@@ -0,0 +1,61 @@
+package mage.remote.traffic;
+
+/**
+ * Network: supported traffic codecs. Default codec can be changed by java param like -Dxmage.network.codec=gzip
+ */
+public final class TrafficCodecs {
+
+    private static final String CODEC_PROPERTY = "xmage.network.codec";
+
+    private static final TrafficCodec[] codecs = {
+            new GzipTrafficCodec(),
+            new DictionaryTrafficCodec()
+    };
+
+    private static final TrafficCodec defaultCodec;
+
+    static {
+        // wrong name must fail instead silent usage of another codec (client and server must use same codec)
+        String codecName = System.getProperty(CODEC_PROPERTY, codecs[DictionaryTrafficCodec.ID].getName());
+        try {
+            defaultCodec = get(codecName);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Wrong java param -D" + CODEC_PROPERTY + "=" + codecName
+                    + ", supported codecs: " + getSupportedNames(), e);
+        }
+    }
+
+    private TrafficCodecs() {
+    }
+
+    public static TrafficCodec getDefault() {
+        return defaultCodec;
+    }
+
+    public static TrafficCodec get(byte id) {
+        if (id < 0 || id >= codecs.length) {
+            throw new IllegalArgumentException("Unknown traffic codec: " + id);
+        }
+        return codecs[id];
+    }
+
+    public static TrafficCodec get(String name) {
+        for (TrafficCodec codec : codecs) {
+            if (codec.getName().equals(name)) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("Unknown traffic codec: " + name);
+    }
+
+    private static String getSupportedNames() {
+        StringBuilder res = new StringBuilder();
+        for (TrafficCodec codec : codecs) {
+            if (res.length() > 0) {
+                res.append(", ");
+            }
+            res.append(codec.getName());
+        }
+        return res.toString();
+    }
+}
@@ -1,54 +1,63 @@
 package mage.remote.traffic;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
- * Implementation for compressing and decompressing objects using {@link GZIPInputStream} and {@link GZIPOutputStream}.
+ * Implementation for compressing and decompressing objects by {@link TrafficCodec} (see {@link TrafficCodecs},
+ * default is deflate with preset dictionary, gzip is the original format).
  * Can be used to send any {@link Object} over internet to reduce traffic usage.
+ * <p>
+ * Data keeps codec's id and version, so client and server with different codecs or dictionaries
+ * fail on unzip with error instead of wrong/empty data.
  *
  * @author ayrat
  */
 public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
 
     private byte[] data;
+    private byte codec = GzipTrafficCodec.ID;
+    private int codecVersion = GzipTrafficCodec.VERSION;
 
     public ZippedObjectImpl(T object) {
+        this(object, TrafficCodecs.getDefault());
+    }
+
+    public ZippedObjectImpl(T object, TrafficCodec codec) {
+        this.codec = codec.getId();
+        this.codecVersion = codec.getVersion();
         zip(object);
     }
 
     public void zip(T object) {
         try {
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            GZIPOutputStream gz = new GZIPOutputStream(bos);
-            ObjectOutputStream oos = new ObjectOutputStream(gz);
-            oos.writeObject(object);
-            oos.close();
-            data = bos.toByteArray();
-        } catch (IOException e) {
+            data = TrafficCodecs.get(codec).encode(object);
+        } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
     @SuppressWarnings("unchecked")
     public T unzip() {
+        TrafficCodec trafficCodec = TrafficCodecs.get(codec);
+        if (trafficCodec.getVersion() != codecVersion) {
+            throw new IllegalStateException("Network: can't decode data from another client/server version - "
+                    + "codec " + trafficCodec.getName() + " has version " + codecVersion
+                    + ", but must be " + trafficCodec.getVersion());
+        }
         try {
-            ByteArrayInputStream bis = new ByteArrayInputStream(data);
-            GZIPInputStream gz = new GZIPInputStream(bis);
-            ObjectInputStream ois = new ObjectInputStream(gz);
-            Object o = ois.readObject();
-            return (T)o;
+            return (T) trafficCodec.decode(data);
         } catch (Exception e) {
             e.printStackTrace();
         }
         return null;
     }
 
-    private static final long serialVersionUID = 1L;
+    /**
+     * Compressed size in bytes (for traffic stats)
+     */
+    public int getDataSize() {
+        return data == null ? 0 : data.length;
+    }
+
+    private static final long serialVersionUID = 2L;
 }
@@ -0,0 +1,70 @@
+package mage.view;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Lobby's list changes since a client's known version (tables, finished matches).
+ * <p>
+ * Client must keep the epoch and version and send it with next request, on full snapshot
+ * client must replace all own items (e.g. on first request, server restart or too old version)
+ *
+ * @param <T> item's view, must be identified by table id
+ */
+public class LobbyDeltaView<T extends Serializable> implements Serializable {
+
+    private static final long serialVersionUID = 2L;
+
+    private final UUID epoch; // server's list id, versions from another list (e.g. before server restart) are unknown
+    private final long version;
+    private final boolean fullSnapshot;
+    private final List<T> changed; // added or updated items (all items on full snapshot)
+    private final Set<UUID> removed;
+
+    public LobbyDeltaView(UUID epoch, long version, boolean fullSnapshot, List<T> changed, Set<UUID> removed) {
+        this.epoch = epoch;
+        this.version = version;
+        this.fullSnapshot = fullSnapshot;
+        this.changed = changed;
+        this.removed = removed;
+    }
+
+    public UUID getEpoch() {
+        return epoch;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isFullSnapshot() {
+        return fullSnapshot;
+    }
+
+    public List<T> getChanged() {
+        return changed;
+    }
+
+    public Set<UUID> getRemoved() {
+        return removed;
+    }
+
+    public boolean isEmpty() {
+        return !fullSnapshot && changed.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * Client side: apply changes to the known items
+     */
+    public void applyTo(Map<UUID, T> items, Function<T, UUID> idGetter) {
+        if (fullSnapshot) {
+            items.clear();
+        }
+        removed.forEach(items::remove);
+        changed.forEach(item -> items.put(idGetter.apply(item), item));
+    }
+}
@@ -6,6 +6,7 @@ import mage.players.PlayerType;
 import mage.players.net.UserData;
 
 import java.io.Serializable;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -85,4 +86,28 @@ public class SeatView implements Serializable {
     public int getLimitedRating() {
         return limitedRating;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SeatView that = (SeatView) o;
+        return generalRating == that.generalRating
+                && constructedRating == that.constructedRating
+                && limitedRating == that.limitedRating
+                && Objects.equals(flagName, that.flagName)
+                && Objects.equals(playerId, that.playerId)
+                && Objects.equals(playerName, that.playerName)
+                && playerType == that.playerType
+                && Objects.equals(history, that.history);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(playerId, playerName, playerType);
+    }
 }
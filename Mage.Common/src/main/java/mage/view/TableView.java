@@ -18,6 +18,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -339,4 +340,44 @@ public class TableView implements Serializable {
     public boolean isPassworded() {
         return passworded;
     }
+
+    /**
+     * Lobby sends changed tables only, so view must be compared by content (see LobbyDeltaView)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TableView that = (TableView) o;
+        return isTournament == that.isTournament
+                && limited == that.limited
+                && rated == that.rated
+                && passworded == that.passworded
+                && spectatorsAllowed == that.spectatorsAllowed
+                && Objects.equals(tableId, that.tableId)
+                && Objects.equals(gameType, that.gameType)
+                && Objects.equals(deckType, that.deckType)
+                && Objects.equals(tableName, that.tableName)
+                && Objects.equals(controllerName, that.controllerName)
+                && Objects.equals(additionalInfoShort, that.additionalInfoShort)
+                && Objects.equals(additionalInfoFull, that.additionalInfoFull)
+                && Objects.equals(createTime, that.createTime)
+                && tableState == that.tableState
+                && skillLevel == that.skillLevel
+                && Objects.equals(tableStateText, that.tableStateText)
+                && Objects.equals(seatsInfo, that.seatsInfo)
+                && Objects.equals(seats, that.seats)
+                && Objects.equals(games, that.games)
+                && Objects.equals(quitRatio, that.quitRatio)
+                && Objects.equals(minimumRating, that.minimumRating);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableId, tableState, tableStateText, seatsInfo, controllerName);
+    }
 }
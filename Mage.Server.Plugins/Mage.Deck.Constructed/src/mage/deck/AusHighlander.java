@@ -3,7 +3,6 @@ package mage.deck;
 import java.util.HashMap;
 import java.util.Map;
 import mage.cards.Card;
-import mage.cards.ExpansionSet;
 import mage.cards.Sets;
 import mage.cards.decks.Constructed;
 import mage.cards.decks.Deck;
@@ -97,11 +96,7 @@ public class AusHighlander extends Constructed {
 
     public AusHighlander() {
         super("Australian Highlander", "AU Highlander");
-        for (ExpansionSet set : Sets.getInstance().values()) {
-            if (set.getSetType().isEternalLegal()) {
-                setCodes.add(set.getCode());
-            }
-        }
+        setCodes.addAll(Sets.getEternalLegalSetCodes());
     }
 
     @Override
@@ -1,6 +1,5 @@
 package mage.deck;
 
-import mage.cards.ExpansionSet;
 import mage.cards.Sets;
 import mage.cards.decks.Constructed;
 import mage.cards.decks.Deck;
@@ -63,11 +62,7 @@ public class CanadianHighlander extends Constructed {
 
     public CanadianHighlander() {
         super("Canadian Highlander");
-        for (ExpansionSet set : Sets.getInstance().values()) {
-            if (set.getSetType().isEternalLegal()) {
-                setCodes.add(set.getCode());
-            }
-        }
+        setCodes.addAll(Sets.getEternalLegalSetCodes());
     }
 
     @Override
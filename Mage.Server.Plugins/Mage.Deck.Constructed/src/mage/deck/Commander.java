@@ -1,6 +1,5 @@
 package mage.deck;
 
-import mage.cards.ExpansionSet;
 import mage.cards.Sets;
 import mage.cards.decks.DeckValidatorErrorType;
 
@@ -59,11 +58,7 @@ public class Commander extends AbstractCommander {
 
     protected Commander(String name) {
         super(name);
-        for (ExpansionSet set : Sets.getInstance().values()) {
-            if (set.getSetType().isEternalLegal()) {
-                setCodes.add(set.getCode());
-            }
-        }
+        setCodes.addAll(Sets.getEternalLegalSetCodes());
     }
 
     @Override
@@ -1,6 +1,5 @@
 package mage.deck;
 
-import mage.cards.ExpansionSet;
 import mage.cards.Sets;
 import mage.cards.decks.Constructed;
 
@@ -15,11 +14,7 @@ public class Eternal extends Constructed {
 
     public Eternal() {
         super("Constructed - Eternal");
-        for (ExpansionSet set : Sets.getInstance().values()) {
-            if (set.getSetType().isEternalLegal()) {
-                setCodes.add(set.getCode());
-            }
-        }
+        setCodes.addAll(Sets.getEternalLegalSetCodes());
         banned.add("Abeyance");
         banned.add("Aboroth");
         banned.add("Academy Rector");
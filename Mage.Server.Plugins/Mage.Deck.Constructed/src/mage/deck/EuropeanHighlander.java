@@ -1,6 +1,5 @@
 package mage.deck;
 
-import mage.cards.ExpansionSet;
 import mage.cards.Sets;
 import mage.cards.decks.Constructed;
 import mage.cards.decks.Deck;
@@ -24,11 +23,7 @@ public class EuropeanHighlander extends Constructed {
 
     public EuropeanHighlander() {
         super("European Highlander", "EuroLander");
-        for (ExpansionSet set : Sets.getInstance().values()) {
-            if (set.getSetType().isEternalLegal()) {
-                setCodes.add(set.getCode());
-            }
-        }
+        setCodes.addAll(Sets.getEternalLegalSetCodes());
 
         // Gold-bordered cards (WC97 etc) used to be allowed until FNM allowed European Highlander to be sanctioned
         // Since then, the tournament organizer must decide if the cards are allowed
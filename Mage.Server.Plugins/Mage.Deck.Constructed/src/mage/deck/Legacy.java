@@ -1,6 +1,5 @@
 package mage.deck;
 
-import mage.cards.ExpansionSet;
 import mage.cards.Sets;
 import mage.cards.decks.Constructed;
 
@@ -11,11 +10,7 @@ public class Legacy extends Constructed {
 
     public Legacy() {
         super("Constructed - Legacy");
-        for (ExpansionSet set : Sets.getInstance().values()) {
-            if (set.getSetType().isEternalLegal()) {
-                setCodes.add(set.getCode());
-            }
-        }
+        setCodes.addAll(Sets.getEternalLegalSetCodes());
         // All attractions & sticker cards are banned. (to add if/when implemented)
         // this also includes the mtgo replacement "Name Sticker" Goblin.
         banned.add("\"Name Sticker\" Goblin");
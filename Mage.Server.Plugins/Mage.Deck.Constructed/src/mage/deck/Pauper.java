@@ -1,6 +1,5 @@
 package mage.deck;
 
-import mage.cards.ExpansionSet;
 import mage.cards.Sets;
 import mage.cards.decks.Constructed;
 import mage.constants.Rarity;
@@ -13,11 +12,7 @@ public class Pauper extends Constructed {
     public Pauper() {
         super("Constructed - Pauper");
 
-        for (ExpansionSet set : Sets.getInstance().values()) {
-            if (set.getSetType().isEternalLegal()) {
-                setCodes.add(set.getCode());
-            }
-        }
+        setCodes.addAll(Sets.getEternalLegalSetCodes());
         rarities.add(Rarity.COMMON);
         rarities.add(Rarity.LAND);
 
@@ -1,6 +1,5 @@
 package mage.deck;
 
-import mage.cards.ExpansionSet;
 import mage.cards.Sets;
 import mage.cards.decks.DeckValidatorErrorType;
 import mage.cards.decks.PennyDreadfulLegalityUtil;
@@ -17,11 +16,7 @@ public class PennyDreadfulCommander extends AbstractCommander {
 
     public PennyDreadfulCommander() {
         super("Penny Dreadful Commander");
-        for (ExpansionSet set : Sets.getInstance().values()) {
-            if (set.getSetType().isEternalLegal()) {
-                setCodes.add(set.getCode());
-            }
-        }
+        setCodes.addAll(Sets.getEternalLegalSetCodes());
     }
 
     @Override
@@ -22,11 +22,7 @@ public class TinyLeaders extends Constructed {
 
     public TinyLeaders() {
         super("Tiny Leaders");
-        for (ExpansionSet set : Sets.getInstance().values()) {
-            if (set.getSetType().isEternalLegal()) {
-                setCodes.add(set.getCode());
-            }
-        }
+        setCodes.addAll(Sets.getEternalLegalSetCodes());
         //Banned list from tinyleaders.blodspot.ca/p/ban-list.html
         banned.add("Ancestral Recall");
         banned.add("Balance");
@@ -54,11 +54,16 @@ public class ComputerPlayer6 extends ComputerPlayer {
     private static final int MAX_SIMULATED_NODES_PER_CALC = 5000;
     private static final int MAX_SIMULATED_NODES_PER_ERROR = 5100; // TODO: debug only, set low value to find big calculations
 
+    private static final boolean USE_TRANSPOSITION_TABLE = true; // reuse scores of same positions reached by different actions order
+    private static final int MAX_SIMULATION_QUEUE_WAIT_SECS = 60; // max wait for free simulation thread (all AI games share it)
+    private static final int SIMULATION_THREADS = Math.max(COMPUTER_MAX_THREADS_FOR_SIMULATIONS, Runtime.getRuntime().availableProcessors());
+
     // same params as Executors.newFixedThreadPool
     // no needs errors check in afterExecute here cause that pool used for FutureTask with result check already
+    // shared by all AI games, so each search uses own budget and think time starts on real execution only
     private static final ExecutorService threadPoolSimulations = new ThreadPoolExecutor(
-            COMPUTER_MAX_THREADS_FOR_SIMULATIONS,
-            COMPUTER_MAX_THREADS_FOR_SIMULATIONS,
+            SIMULATION_THREADS,
+            SIMULATION_THREADS,
             0L,
             TimeUnit.MILLISECONDS,
             new LinkedBlockingQueue<>(),
@@ -104,6 +109,8 @@ public class ComputerPlayer6 extends ComputerPlayer {
     public ComputerPlayer6(final ComputerPlayer6 player) {
         super(player);
         this.maxDepth = player.maxDepth;
+        this.maxNodes = player.maxNodes;
+        this.maxThinkTimeSecs = player.maxThinkTimeSecs;
         this.currentScore = player.currentScore;
         if (player.combat != null) {
             this.combat = player.combat.copy();
@@ -121,6 +128,17 @@ public class ComputerPlayer6 extends ComputerPlayer {
         this.maxThinkTimeSecs = maxThinkTimeSecs;
     }
 
+    /**
+     * Limits for new search (each search must use own budget)
+     */
+    protected SimulationBudget createSimulationBudget() {
+        return new SimulationBudget(
+                maxNodes,
+                maxDepth,
+                COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS ? 3600 : maxThinkTimeSecs
+        );
+    }
+
     @Override
     public ComputerPlayer6 copy() {
         return new ComputerPlayer6(this);
@@ -213,17 +231,18 @@ public class ComputerPlayer6 extends ComputerPlayer {
             logger.trace("Add Action [" + depth + "] " + node.getAbilities().toString() + "  a: " + alpha + " b: " + beta);
         }
         Game game = node.getGame();
-        if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS && Thread.currentThread().isInterrupted()) {
+        if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
+                && (Thread.currentThread().isInterrupted() || node.getBudget().isStopped())) {
             logger.debug("AI game sim interrupted by timeout");
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
         // Condition to stop deeper simulation
-        if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+        if (node.getBudget().getNodeCount() > MAX_SIMULATED_NODES_PER_ERROR) {
             // how-to fix: make sure you are disabled debug mode by COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS = false
             throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
         }
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || node.getBudget().isNodesLimitReached()
                 || game.checkIfGameIsOver()) {
             val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             if (logger.isTraceEnabled()) {
@@ -288,7 +307,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 }
                 val = minimaxAB(node, depth - 1, alpha, beta);
             } else {
-                val = simulatePriority(node, game, depth, alpha, beta);
+                val = simulatePriorityCached(node, game, depth, alpha, beta);
             }
         }
         node.setScore(val);
@@ -341,10 +360,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+            if (node.getBudget().getNodeCount() > MAX_SIMULATED_NODES_PER_ERROR) {
                 throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (node.getBudget().isNodesLimitReached()) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -419,7 +438,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + newNode.getBudget().getNodeCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
@@ -443,15 +462,24 @@ public class ComputerPlayer6 extends ComputerPlayer {
         // TODO: all actions added and calculated one by one,
         //  multithreading do not supported here
         // run new game simulation in parallel thread
-        FutureTask<Integer> task = new FutureTask<>(() -> addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        SimulationBudget budget = root.getBudget();
+        FutureTask<Integer> task = new FutureTask<>(() -> {
+            budget.start();
+            return addActions(root, budget.getMaxDepth(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+        });
+        long submitTime = System.nanoTime();
         threadPoolSimulations.execute(task);
         try {
-            int maxSeconds = maxThinkTimeSecs;
-            if (COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS) {
-                maxSeconds = 3600;
+            logger.debug("maxThink: " + budget.getMaxThinkTimeSecs() + " seconds ");
+            Integer res = waitSimulation(task, budget, submitTime);
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("AI simulation for %s: queue wait %d ms, think %d ms, %s",
+                        getName(),
+                        TimeUnit.NANOSECONDS.toMillis(budget.getStartTime() - submitTime),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - budget.getStartTime()),
+                        budget
+                ));
             }
-            logger.debug("maxThink: " + maxSeconds + " seconds ");
-            Integer res = task.get(maxSeconds, TimeUnit.SECONDS);
             if (res != null) {
                 return res;
             }
@@ -466,6 +494,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             logger.warn(" - game: " + root.game);
             printFreezeNode(root);
             logger.warn("");
+            budget.cancel();
             task.cancel(true);
         } catch (ExecutionException e) {
             // game error
@@ -485,6 +514,28 @@ public class ComputerPlayer6 extends ComputerPlayer {
         return 0;
     }
 
+    /**
+     * Wait simulation result: think time starts on real execution, so waiting in the shared queue
+     * do not reduce it (but queue wait is limited too)
+     */
+    private Integer waitSimulation(FutureTask<Integer> task, SimulationBudget budget, long submitTime) throws InterruptedException, ExecutionException, TimeoutException {
+        while (true) {
+            try {
+                return task.get(100, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (budget.isStarted()) {
+                    // 1 extra second to finish evaluation after deadline
+                    if (System.nanoTime() - budget.getStartTime() > TimeUnit.SECONDS.toNanos(budget.getMaxThinkTimeSecs() + 1)) {
+                        throw e;
+                    }
+                } else if (System.nanoTime() - submitTime > TimeUnit.SECONDS.toNanos(MAX_SIMULATION_QUEUE_WAIT_SECS)) {
+                    logger.warn("AI simulation waits too long for free thread: " + getName());
+                    throw e;
+                }
+            }
+        }
+    }
+
     private void printFreezeNode(SimulationNode2 root) {
         // print simple tree - there are possible multiple child nodes, but ignore it - same for abilities
         List<String> chain = new ArrayList<>();
@@ -509,8 +560,44 @@ public class ComputerPlayer6 extends ComputerPlayer {
         });
     }
 
+    /**
+     * Priority simulation with transposition table: same position can be reached by different actions order,
+     * so calculated score can be reused (root node must be calculated anyway to find actions chain)
+     */
+    protected int simulatePriorityCached(SimulationNode2 node, Game game, int depth, int alpha, int beta) {
+        TranspositionTable table = node.getBudget().getTranspositionTable();
+        if (!USE_TRANSPOSITION_TABLE || table == null || node.getParent() == null) {
+            return simulatePriority(node, game, depth, alpha, beta);
+        }
+
+        long hash = GameStateHash.of(game);
+        TranspositionTable.Entry entry = table.findScore(hash, depth);
+        if (entry != null) {
+            return entry.getScore();
+        }
+
+        node.setStateHash(hash);
+        int val = simulatePriority(node, game, depth, alpha, beta);
+
+        // save exact scores only (inside alpha-beta window and without stopped search)
+        if (val > alpha && val < beta
+                && !node.getBudget().isStopped()
+                && !node.getBudget().isNodesLimitReached()) {
+            String bestAction = null;
+            if (!node.getChildren().isEmpty()) {
+                List<Ability> bestAbilities = node.getChildren().get(0).getAbilities();
+                if (bestAbilities != null && !bestAbilities.isEmpty()) {
+                    bestAction = bestAbilities.get(0).toString();
+                }
+            }
+            table.put(hash, depth, val, bestAction);
+        }
+        return val;
+    }
+
     protected int simulatePriority(SimulationNode2 node, Game game, int depth, int alpha, int beta) {
-        if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS && Thread.currentThread().isInterrupted()) {
+        if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
+                && (Thread.currentThread().isInterrupted() || node.getBudget().isStopped())) {
             logger.debug("AI game sim interrupted by timeout");
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
@@ -519,6 +606,18 @@ public class ComputerPlayer6 extends ComputerPlayer {
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
         optimize(game, allActions);
+        if (node.getStateHash() != null) {
+            // moves ordering: best action from previous calculations goes first (better alpha-beta cuts)
+            String bestAction = node.getBudget().getTranspositionTable().findBestAction(node.getStateHash());
+            if (bestAction != null) {
+                for (int i = 1; i < allActions.size(); i++) {
+                    if (allActions.get(i).toString().equals(bestAction)) {
+                        allActions.add(0, allActions.remove(i));
+                        break;
+                    }
+                }
+            }
+        }
         int startedScore = GameStateEvaluator2.evaluate(this.getId(), node.getGame()).getTotalScore();
         if (logger.isInfoEnabled()
                 && !allActions.isEmpty()
@@ -721,10 +820,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 if (alpha >= beta) {
                     break;
                 }
-                if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+                if (node.getBudget().getNodeCount() > MAX_SIMULATED_NODES_PER_ERROR) {
                     throw new IllegalStateException("AI ERROR: too many nodes (possible actions)");
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
+                if (node.getBudget().isNodesLimitReached()) {
                     logger.debug("Sim Prio -- reached end-state");
                     break;
                 }
@@ -733,7 +832,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
 
         if (depth == maxDepth) {
             // TODO: buggy? Why it ended with depth limit 6 on one Pass action?!
-            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + SimulationNode2.nodeCount);
+            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + node.getBudget().getNodeCount());
         }
         if (bestNode != null) {
             node.children.clear();
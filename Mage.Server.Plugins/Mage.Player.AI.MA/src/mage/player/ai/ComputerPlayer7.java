@@ -4,6 +4,8 @@ import mage.abilities.Ability;
 import mage.constants.RangeOfInfluence;
 import mage.game.Game;
 import mage.player.ai.score.GameStateEvaluator2;
+import mage.util.metrics.Histogram;
+import mage.util.metrics.MetricsRegistry;
 import org.apache.log4j.Logger;
 
 import java.util.Date;
@@ -17,6 +19,7 @@ import java.util.LinkedList;
 public class ComputerPlayer7 extends ComputerPlayer6 {
 
     private static final Logger logger = Logger.getLogger(ComputerPlayer7.class);
+    private static final Histogram thinkTimeMetric = MetricsRegistry.instance.histogram("ai.mad.decision.nanos");
 
     private boolean allowBadMoves;
 
@@ -36,9 +39,11 @@ public class ComputerPlayer7 extends ComputerPlayer6 {
 
     @Override
     public boolean priority(Game game) {
+        long startTime = System.nanoTime();
         game.resumeTimer(getTurnControlledBy());
         boolean result = priorityPlay(game);
         game.pauseTimer(getTurnControlledBy());
+        thinkTimeMetric.recordNanosSince(startTime);
         return result;
     }
 
@@ -114,8 +119,7 @@ public class ComputerPlayer7 extends ComputerPlayer6 {
         if (!getNextAction(game)) {
             currentScore = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             Game sim = createSimulation(game);
-            SimulationNode2.resetCount();
-            root = new SimulationNode2(null, sim, maxDepth, playerId);
+            root = new SimulationNode2(createSimulationBudget(), sim, maxDepth, playerId);
             addActionsTimed(); // TODO: root can be null again after addActionsTimed O_o need to research (it's a CPU AI problem?)
             if (root != null && root.children != null && !root.children.isEmpty()) {
                 logger.trace("After add actions timed: root.children.size = " + root.children.size());
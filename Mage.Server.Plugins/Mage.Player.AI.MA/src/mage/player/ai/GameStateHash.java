@@ -0,0 +1,109 @@
+package mage.player.ai;
+
+import mage.Mana;
+import mage.counters.Counter;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.game.stack.StackObject;
+import mage.players.Player;
+
+import java.util.UUID;
+
+/**
+ * AI: Zobrist-style hash of the game parts used by the game evaluator (battlefield, life, hands, stack, etc).
+ * <p>
+ * Unordered parts (permanents, cards in hand) are combined by sum of item hashes, so same position reached
+ * by different actions order (tap land A then B or B then A) gives same hash. It's a fast key for the
+ * transposition table only, different positions can have same hash in very rare cases.
+ */
+public final class GameStateHash {
+
+    private GameStateHash() {
+    }
+
+    public static long of(Game game) {
+        long hash = mix(game.getTurnNum());
+        hash = combine(hash, game.getTurnStepType() == null ? 0 : game.getTurnStepType().ordinal());
+        hash = combine(hash, of(game.getActivePlayerId()));
+        hash = combine(hash, of(game.getPriorityPlayerId()));
+
+        for (Player player : game.getState().getPlayers().values()) {
+            long playerHash = of(player.getId());
+            playerHash = combine(playerHash, player.getLife());
+            playerHash = combine(playerHash, player.isPassed() ? 1 : 0);
+            playerHash = combine(playerHash, player.getLibrary().size());
+            playerHash = combine(playerHash, player.getGraveyard().size());
+            playerHash = combine(playerHash, player.getLandsPlayed());
+            playerHash = combine(playerHash, unordered(player.getHand()));
+            playerHash = combine(playerHash, of(player.getManaPool().getMana()));
+            hash = combine(hash, playerHash);
+        }
+
+        long permanentsHash = 0;
+        for (Permanent permanent : game.getBattlefield().getAllPermanents()) {
+            permanentsHash += mix(of(permanent, game));
+        }
+        hash = combine(hash, permanentsHash);
+
+        // stack is ordered
+        for (StackObject stackObject : game.getStack()) {
+            hash = combine(hash, of(stackObject.getId()));
+            hash = combine(hash, of(stackObject.getControllerId()));
+        }
+
+        return hash;
+    }
+
+    private static long of(Permanent permanent, Game game) {
+        long hash = of(permanent.getId());
+        hash = combine(hash, of(permanent.getControllerId()));
+        hash = combine(hash, permanent.isTapped() ? 1 : 0);
+        hash = combine(hash, permanent.getDamage());
+        hash = combine(hash, permanent.getPower().getValue());
+        hash = combine(hash, permanent.getToughness().getValue());
+        hash = combine(hash, permanent.isAttacking() ? 1 : 0);
+        hash = combine(hash, permanent.getBlocking());
+        long countersHash = 0;
+        for (Counter counter : permanent.getCounters(game).values()) {
+            countersHash += mix(combine(counter.getName().hashCode(), counter.getCount()));
+        }
+        return combine(hash, countersHash);
+    }
+
+    private static long of(Mana mana) {
+        long hash = mix(mana.getWhite());
+        hash = combine(hash, mana.getBlue());
+        hash = combine(hash, mana.getBlack());
+        hash = combine(hash, mana.getRed());
+        hash = combine(hash, mana.getGreen());
+        hash = combine(hash, mana.getGeneric());
+        hash = combine(hash, mana.getColorless());
+        return combine(hash, mana.getAny());
+    }
+
+    private static long unordered(Iterable<UUID> ids) {
+        long hash = 0;
+        for (UUID id : ids) {
+            hash += mix(of(id));
+        }
+        return hash;
+    }
+
+    private static long of(UUID id) {
+        return id == null ? 0 : id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+    }
+
+    private static long combine(long hash, long value) {
+        return mix(hash * 31 + value);
+    }
+
+    /**
+     * SplitMix64 finalizer - spreads bits of the value
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,102 @@
+package mage.player.ai;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI: limits for one simulation search (nodes count, depth and think time)
+ * <p>
+ * Each search uses own budget, so parallel AI games do not share node limits.
+ * Deadline starts on search start (not on task submit), so waiting in simulation queue
+ * does not reduce think time.
+ */
+public class SimulationBudget implements Serializable {
+
+    private final int maxNodes;
+    private final int maxDepth;
+    private final int maxThinkTimeSecs;
+
+    private final AtomicInteger nodeCount = new AtomicInteger();
+    private final transient TranspositionTable transpositionTable = new TranspositionTable(); // already calculated positions of the search
+    private volatile long startTime = 0; // System.nanoTime based, 0 - not started
+    private volatile long deadline = Long.MAX_VALUE;
+    private volatile boolean cancelled = false;
+
+    public SimulationBudget(int maxNodes, int maxDepth, int maxThinkTimeSecs) {
+        this.maxNodes = maxNodes;
+        this.maxDepth = maxDepth;
+        this.maxThinkTimeSecs = maxThinkTimeSecs;
+    }
+
+    /**
+     * Start think time countdown
+     */
+    public void start() {
+        this.startTime = System.nanoTime();
+        this.deadline = this.startTime + maxThinkTimeSecs * 1000000000L;
+    }
+
+    public boolean isStarted() {
+        return startTime > 0;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isTimeout() {
+        return System.nanoTime() > deadline;
+    }
+
+    /**
+     * Search must be stopped as soon as possible (cancelled or timeout)
+     */
+    public boolean isStopped() {
+        return cancelled || isTimeout();
+    }
+
+    public int addNode() {
+        return nodeCount.incrementAndGet();
+    }
+
+    public int getNodeCount() {
+        return nodeCount.get();
+    }
+
+    public boolean isNodesLimitReached() {
+        return nodeCount.get() > maxNodes;
+    }
+
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public int getMaxThinkTimeSecs() {
+        return maxThinkTimeSecs;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+    @Override
+    public String toString() {
+        return "nodes " + getNodeCount() + "/" + maxNodes
+                + ", depth " + maxDepth
+                + ", think time " + maxThinkTimeSecs + "s"
+                + (cancelled ? ", cancelled" : "")
+                + (transpositionTable != null ? ", transpositions: " + transpositionTable : "");
+    }
+}
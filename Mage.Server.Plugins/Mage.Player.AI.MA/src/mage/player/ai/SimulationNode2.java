@@ -15,10 +15,11 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
+    protected final SimulationBudget budget; // shared by all nodes of the same search
 
     protected Game game;
     protected int gameValue; // game state hash to monitor changes
+    protected Long stateHash; // transposition table key, see GameStateHash
     protected int score;
     protected List<Ability> abilities;
     protected int depth;
@@ -29,13 +30,25 @@ public class SimulationNode2 implements Serializable {
     protected UUID playerId;
     protected Combat combat;
 
+    /**
+     * Root node of the new search
+     */
+    public SimulationNode2(SimulationBudget budget, Game game, int depth, UUID playerId) {
+        this(null, budget, game, depth, playerId);
+    }
+
     public SimulationNode2(SimulationNode2 parent, Game game, int depth, UUID playerId) {
+        this(parent, parent.budget, game, depth, playerId);
+    }
+
+    private SimulationNode2(SimulationNode2 parent, SimulationBudget budget, Game game, int depth, UUID playerId) {
         this.parent = parent;
+        this.budget = budget;
         this.game = game;
         this.depth = depth;
         this.playerId = playerId;
         game.setCustomData(this);
-        nodeCount++;
+        budget.addNode();
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -49,12 +62,8 @@ public class SimulationNode2 implements Serializable {
         abilities.add(ability);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
-    }
-
-    public static int getCount() {
-        return nodeCount;
+    public SimulationBudget getBudget() {
+        return this.budget;
     }
 
     public Game getGame() {
@@ -69,6 +78,14 @@ public class SimulationNode2 implements Serializable {
         this.gameValue = value;
     }
 
+    public Long getStateHash() {
+        return this.stateHash;
+    }
+
+    public void setStateHash(Long stateHash) {
+        this.stateHash = stateHash;
+    }
+
     public List<Ability> getAbilities() {
         return this.abilities;
     }
@@ -0,0 +1,106 @@
+package mage.player.ai;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AI: bounded cache of already calculated positions for one search (key - GameStateHash)
+ * <p>
+ * Stores exact scores only (calculated inside alpha-beta window), so it can be reused
+ * for same or lower remaining depth. Best action used for moves ordering.
+ */
+public class TranspositionTable {
+
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    public static class Entry {
+
+        private final int depth;
+        private final int score;
+        private final String bestAction;
+
+        Entry(int depth, int score, String bestAction) {
+            this.depth = depth;
+            this.score = score;
+            this.bestAction = bestAction;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public String getBestAction() {
+            return bestAction;
+        }
+    }
+
+    private final Map<Long, Entry> entries;
+    private int hits = 0;
+    private int misses = 0;
+
+    public TranspositionTable() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public TranspositionTable(int maxEntries) {
+        // LRU
+        this.entries = new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Find calculated score for the position
+     *
+     * @param depth remaining depth of the search
+     * @return entry or null if it's not calculated or calculated with lower depth
+     */
+    public Entry findScore(long hash, int depth) {
+        Entry entry = entries.get(hash);
+        if (entry != null && entry.depth >= depth) {
+            hits++;
+            return entry;
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Find best action of the position (can be calculated with any depth)
+     */
+    public String findBestAction(long hash) {
+        Entry entry = entries.get(hash);
+        return entry == null ? null : entry.bestAction;
+    }
+
+    public void put(long hash, int depth, int score, String bestAction) {
+        Entry entry = entries.get(hash);
+        if (entry == null || entry.depth <= depth) {
+            entries.put(hash, new Entry(depth, score, bestAction));
+        }
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "entries " + size() + ", hits " + hits + ", misses " + misses;
+    }
+}
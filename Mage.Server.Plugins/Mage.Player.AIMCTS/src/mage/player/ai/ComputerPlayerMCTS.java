@@ -14,6 +14,8 @@ import mage.player.ai.MCTSPlayer.NextAction;
 import mage.players.Player;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
+import mage.util.metrics.Histogram;
+import mage.util.metrics.MetricsRegistry;
 import org.apache.log4j.Logger;
 
 import java.util.ArrayList;
@@ -30,13 +32,26 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
     private static final int THINK_MAX_RATIO = 100;
     private static final double THINK_TIME_MULTIPLIER = 2.0;
     private static final boolean USE_MULTIPLE_THREADS = true;
+    private static final boolean USE_SHARED_TREE = true; // multiple threads: true - tree parallel (one shared tree), false - root parallel (merge trees after search)
+    private static final int THINK_TIMEOUT_EXTRA_SECS = 2; // workers stop by deadline, timeout is just a safety net
 
     protected transient MCTSNode root;
     protected int maxThinkTime;
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
+    private static final Histogram thinkTimeMetric = MetricsRegistry.instance.histogram("ai.mcts.decision.nanos");
     private int poolSize;
 
-    private ExecutorService threadPoolSimulations = null;
+    // same params as Executors.newFixedThreadPool
+    // no needs errors check in afterExecute here cause that pool used for FutureTask with result check already
+    // shared by all AI games, so simulations are CPU bounded and don't depend on games amount or game threads mode
+    private static final ExecutorService threadPoolSimulations = new ThreadPoolExecutor(
+            Runtime.getRuntime().availableProcessors(),
+            Runtime.getRuntime().availableProcessors(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_AI_SIMULATION_MCTS)
+    );
 
     public ComputerPlayerMCTS(String name, RangeOfInfluence range, int skill) {
         super(name, range);
@@ -62,6 +77,15 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
 
     @Override
     public boolean priority(Game game) {
+        long startTime = System.nanoTime();
+        try {
+            return priorityPlay(game);
+        } finally {
+            thinkTimeMetric.recordNanosSince(startTime);
+        }
+    }
+
+    private boolean priorityPlay(Game game) {
         if (game.getTurnStepType() == PhaseStep.UPKEEP) {
             if (!lastPhase.equals(game.getTurn().getValue(game.getTurnNum()))) {
                 logList(game.getTurn().getValue(game.getTurnNum()) + name + " hand: ", new ArrayList(hand.getCards(game)));
@@ -164,30 +188,25 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
 
         if (thinkTime > 0) {
             if (USE_MULTIPLE_THREADS) {
-                if (this.threadPoolSimulations == null) {
-                    // same params as Executors.newFixedThreadPool
-                    // no needs errors check in afterExecute here cause that pool used for FutureTask with result check already
-                    this.threadPoolSimulations = new ThreadPoolExecutor(
-                            poolSize,
-                            poolSize,
-                            0L,
-                            TimeUnit.MILLISECONDS,
-                            new LinkedBlockingQueue<>(),
-                            new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_AI_SIMULATION_MCTS) // TODO: add player/game to thread name?
-                    );
-                }
-
+                long startTime = System.nanoTime();
+                long deadline = startTime + thinkTime * 1000000000L;
                 List<MCTSExecutor> tasks = new ArrayList<>();
                 for (int i = 0; i < poolSize; i++) {
-                    Game sim = createMCTSGame(game);
-                    MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
-                    player.setNextAction(action);
-                    MCTSExecutor exec = new MCTSExecutor(sim, playerId, thinkTime);
+                    MCTSExecutor exec;
+                    if (USE_SHARED_TREE) {
+                        exec = new MCTSExecutor(root, playerId, thinkTime);
+                    } else {
+                        Game sim = createMCTSGame(game);
+                        MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
+                        player.setNextAction(action);
+                        exec = new MCTSExecutor(sim, playerId, thinkTime);
+                    }
+                    exec.setDeadline(deadline);
                     tasks.add(exec);
                 }
 
                 try {
-                    List<Future<Boolean>> runningTasks = threadPoolSimulations.invokeAll(tasks, thinkTime, TimeUnit.SECONDS);
+                    List<Future<Boolean>> runningTasks = threadPoolSimulations.invokeAll(tasks, thinkTime + THINK_TIMEOUT_EXTRA_SECS, TimeUnit.SECONDS);
                     for (Future<Boolean> runningTask : runningTasks) {
                         runningTask.get();
                     }
@@ -204,13 +223,18 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                 int simCount = 0;
                 for (MCTSExecutor task : tasks) {
                     simCount += task.getSimCount();
-                    root.merge(task.getRoot());
+                    if (!task.isSharedTree()) {
+                        root.merge(task.getRoot());
+                    }
                     task.clear();
                 }
                 tasks.clear();
+                double realThinkTime = Math.max(1, System.nanoTime() - startTime) / 1000000000.0;
                 totalThinkTime += thinkTime;
                 totalSimulations += simCount;
-                logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds - nodes in tree: " + root.size());
+                logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds"
+                        + " (" + String.format("%.1f", simCount / realThinkTime) + " per second, " + (USE_SHARED_TREE ? "tree" : "root") + " parallel)"
+                        + " - nodes in tree: " + root.size());
                 logger.info("Total: Simulated " + totalSimulations + " games in " + totalThinkTime + " seconds - Average: " + totalSimulations / totalThinkTime);
                 MCTSNode.logHitMiss();
             } else {
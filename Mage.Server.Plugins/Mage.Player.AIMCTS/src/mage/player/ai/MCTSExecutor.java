@@ -1,4 +1,3 @@
-
 package mage.player.ai;
 
 import java.util.UUID;
@@ -7,6 +6,11 @@ import mage.game.Game;
 import org.apache.log4j.Logger;
 
 /**
+ * MCTS worker, supports two parallel modes:
+ * - root parallel: each worker builds own tree (must be merged after search);
+ * - tree parallel: all workers use one shared tree (atomic counters and virtual loss);
+ * <p>
+ * Worker stops on deadline or thread interruption.
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -16,43 +20,85 @@ public class MCTSExecutor implements Callable<Boolean> {
     protected int thinkTime;
     protected UUID playerId;
     protected int simCount;
+    protected final boolean sharedTree;
+    protected long deadline; // System.nanoTime based
 
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
 
+    /**
+     * Root parallel mode: new tree for the simulated game
+     */
     public MCTSExecutor(Game sim, UUID playerId, int thinkTime) {
+        this(new MCTSNode(playerId, sim), playerId, thinkTime, false);
+    }
+
+    /**
+     * Tree parallel mode: shared tree for all workers
+     */
+    public MCTSExecutor(MCTSNode sharedRoot, UUID playerId, int thinkTime) {
+        this(sharedRoot, playerId, thinkTime, true);
+    }
+
+    private MCTSExecutor(MCTSNode root, UUID playerId, int thinkTime, boolean sharedTree) {
+        this.root = root;
         this.playerId = playerId;
         this.thinkTime = thinkTime;
-        root = new MCTSNode(playerId, sim);
+        this.sharedTree = sharedTree;
     }
 
     @Override
     public Boolean call() {
         simCount = 0;
+        if (deadline == 0) {
+            deadline = System.nanoTime() + thinkTime * 1000000000L;
+        }
         MCTSNode current;
 
-
-        while (true) {
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
             current = root;
 
             // Selection
+            if (sharedTree) {
+                current.addVirtualLoss();
+            }
             while (!current.isLeaf()) {
                 current = current.select(this.playerId);
+                if (sharedTree) {
+                    current.addVirtualLoss();
+                }
             }
 
             int result;
             if (!current.isTerminal()) {
                 // Expansion
-                current.expand();
+                boolean expanded;
+                if (sharedTree) {
+                    expanded = current.tryExpand();
+                } else {
+                    current.expand();
+                    expanded = true;
+                }
 
                 // only run simulations for nodes that have siblings
-                if (current.getNumChildren() > 1) {
+                if (!expanded || current.isLeaf()) {
+                    // another worker expanded it (or nothing to expand) - try again
+                    result = 0;
+                } else if (current.getNumChildren() > 1) {
                     // Simulation
                     current = current.select(this.playerId);
+                    if (sharedTree) {
+                        current.addVirtualLoss();
+                    }
                     result = current.simulate(this.playerId);
-                    simCount++;
+                    if (result != 0) {
+                        simCount++;
+                    }
                 }
                 else {
                     current = current.select(this.playerId);
+                    if (sharedTree) {
+                        current.addVirtualLoss();
+                    }
                     result = 0;
                 }
             }
@@ -60,8 +106,24 @@ public class MCTSExecutor implements Callable<Boolean> {
                 result = current.isWinner(this.playerId)?1:-1;
             }
             // Backpropagation
-            current.backpropagate(result);
+            if (sharedTree) {
+                current.backpropagateVirtual(result);
+            } else {
+                current.backpropagate(result);
+            }
         }
+        return true;
+    }
+
+    /**
+     * Cooperative stop time for all workers (System.nanoTime based), by default it's thinkTime after start
+     */
+    public void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    public boolean isSharedTree() {
+        return sharedTree;
     }
 
     public MCTSNode getRoot() {
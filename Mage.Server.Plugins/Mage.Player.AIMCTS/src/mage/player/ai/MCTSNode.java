@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -32,10 +34,12 @@ public class MCTSNode {
     private static final double passRatioTolerance = 0.0;
     private static final Logger logger = Logger.getLogger(MCTSNode.class);
 
-    private int visits = 0;
-    private int wins = 0;
+    // counters can be changed by multiple workers in tree parallel mode (see MCTSExecutor)
+    private final AtomicInteger visits = new AtomicInteger();
+    private final AtomicInteger wins = new AtomicInteger();
+    private final AtomicInteger virtualVisits = new AtomicInteger(); // paths in progress, see addVirtualLoss
     private MCTSNode parent;
-    private final List<MCTSNode> children = new ArrayList<>();
+    private final List<MCTSNode> children = new CopyOnWriteArrayList<>();
     private Ability action;
     private Game game;
     private Combat combat;
@@ -45,7 +49,7 @@ public class MCTSNode {
     private boolean terminal = false;
     private UUID targetPlayer;
 
-    private static int nodeCount;
+    private static final AtomicInteger nodeCount = new AtomicInteger();
 
     public MCTSNode(UUID targetPlayer, Game game) {
         this.targetPlayer = targetPlayer;
@@ -54,7 +58,7 @@ public class MCTSNode {
         this.fullStateValue = game.getState().getValue(true, game);
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
-        nodeCount = 1;
+        nodeCount.set(1);
 //        logger.info(this.stateValue);
     }    
 
@@ -67,7 +71,7 @@ public class MCTSNode {
         this.parent = parent;
         this.action = action;
         setPlayer();
-        nodeCount++;
+        nodeCount.incrementAndGet();
 //        logger.info(this.stateValue);
     }
 
@@ -80,7 +84,7 @@ public class MCTSNode {
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
-        nodeCount++;
+        nodeCount.incrementAndGet();
 //        logger.info(this.stateValue);
     }
 
@@ -103,13 +107,18 @@ public class MCTSNode {
         if (children.size() == 1) {
             return children.get(0);
         }
+        // virtual visits are counted as a loss for the player who chooses here
+        int parentVisits = visits.get() + virtualVisits.get();
         for (MCTSNode node: children) {
             double uct;
-            if (node.visits > 0)
+            int nodeRealVisits = node.visits.get();
+            int nodeVisits = nodeRealVisits + node.virtualVisits.get();
+            int nodeWins = node.wins.get();
+            if (nodeVisits > 0)
                 if (isTarget)
-                    uct = (node.wins / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = (nodeWins / (nodeVisits * 1.0)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
                 else
-                    uct = ((node.visits - node.wins) / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = ((nodeRealVisits - nodeWins) / (nodeVisits * 1.0)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
             else
                 // ensure that a random unvisited node is played first
                 uct = 10000 + 1000 * RandomUtil.nextDouble();
@@ -121,6 +130,19 @@ public class MCTSNode {
         return bestChild;
     }
 
+    /**
+     * Tree parallel mode: expand node by one worker only
+     *
+     * @return false if node was already expanded by another worker
+     */
+    public synchronized boolean tryExpand() {
+        if (!isLeaf() || game == null) {
+            return false;
+        }
+        expand();
+        return true;
+    }
+
     public void expand() {
         MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
         if (player.getNextAction() == null) {
@@ -132,7 +154,14 @@ public class MCTSNode {
 
     public int simulate(UUID playerId) {
 //        long startTime = System.nanoTime();
-        Game sim = createSimulation(game, playerId);
+        Game sim;
+        synchronized (this) {
+            if (game == null) {
+                // tree parallel mode: node was expanded by another worker, so nothing to simulate
+                return 0;
+            }
+            sim = createSimulation(game, playerId);
+        }
         sim.resume();
 //        long duration = System.nanoTime() - startTime;
         int retVal = -1;  //anything other than a win is a loss
@@ -150,12 +179,35 @@ public class MCTSNode {
         if (result == 0)
             return;
         if (result == 1)
-            wins++;
-        visits++;
+            wins.incrementAndGet();
+        visits.incrementAndGet();
         if (parent != null)
             parent.backpropagate(result);
     }
 
+    /**
+     * Tree parallel mode: count virtual visit before simulation ends (as a loss for the player who
+     * chooses that node), so other workers will prefer another nodes instead same path
+     */
+    public void addVirtualLoss() {
+        virtualVisits.incrementAndGet();
+    }
+
+    /**
+     * Tree parallel mode: backpropagate result of the path with virtual loss (replaces virtual visits by real result)
+     */
+    public void backpropagateVirtual(int result) {
+        if (result != 0) {
+            visits.incrementAndGet();
+            if (result == 1) {
+                wins.incrementAndGet();
+            }
+        }
+        virtualVisits.decrementAndGet();
+        if (parent != null)
+            parent.backpropagateVirtual(result);
+    }
+
     public boolean isLeaf() {
         return children.isEmpty();
     }
@@ -168,25 +220,27 @@ public class MCTSNode {
         boolean bestIsPass = false;
         MCTSNode bestChild = null;
         for (MCTSNode node: children) {
+            int nodeVisits = node.visits.get();
+            int nodeWins = node.wins.get();
             //favour passing vs any other action except for playing land if ratio is close
-            if (node.visits > bestCount) {
+            if (nodeVisits > bestCount) {
                 if (bestIsPass) {
-                    double ratio = node.wins/(node.visits * 1.0);
+                    double ratio = nodeWins/(nodeVisits * 1.0);
                     if (ratio < bestRatio + passRatioTolerance)
                         continue;
                 }
                 bestChild = node;
-                bestCount = node.visits;
-                bestRatio = node.wins/(node.visits * 1.0);
+                bestCount = nodeVisits;
+                bestRatio = nodeWins/(nodeVisits * 1.0);
                 bestIsPass = false;
             }
-            else if (node.action instanceof PassAbility && node.visits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
+            else if (node.action instanceof PassAbility && nodeVisits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
                 //favour passing vs any other action if ratio is close
-                double ratio = node.wins/(node.visits * 1.0);
+                double ratio = nodeWins/(nodeVisits * 1.0);
                 if (ratio > bestRatio - passRatioTolerance) {
                     logger.info("choosing pass over " + bestChild.getAction());
                     bestChild = node;
-                    bestCount = node.visits;
+                    bestCount = nodeVisits;
                     bestRatio = ratio;
                     bestIsPass = true;
                 }
@@ -219,7 +273,7 @@ public class MCTSNode {
     }
 
     public int getNodeCount() {
-        return nodeCount;
+        return nodeCount.get();
     }
 
     public String getStateValue() {
@@ -227,13 +281,14 @@ public class MCTSNode {
     }
 
     public double getWinRatio() {
-        if (visits > 0)
-            return wins/(visits * 1.0);
+        int nodeVisits = visits.get();
+        if (nodeVisits > 0)
+            return wins.get()/(nodeVisits * 1.0);
         return -1.0;
     }
 
     public int getVisits() {
-        return visits;
+        return visits.get();
     }
 
     /**
@@ -321,8 +376,8 @@ public class MCTSNode {
             return;
         }
 
-        this.visits += merge.visits;
-        this.wins += merge.wins;
+        this.visits.addAndGet(merge.visits.get());
+        this.wins.addAndGet(merge.wins.get());
         int mismatchCount = 0;
         
         List<MCTSNode> mergeChildren = new ArrayList<>();
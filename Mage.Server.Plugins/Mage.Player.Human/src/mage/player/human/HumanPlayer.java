@@ -89,9 +89,9 @@ public class HumanPlayer extends PlayerImpl {
     // * keep only latest income feedback (if user sends multiple clicks/choices)
     // * HumanPlayer contains "response" object for threads sync and data exchange
     // * so sync logic:
-    // * - GAME thread: open response for income command and wait (go to sleep by response.wait)
+    // * - GAME thread: open response for income command and wait (go to sleep by response.await)
     // * - CALL thread: on closed response - waiting open status of player's response object (if it's too long then cancel the answer)
-    // * - CALL thread: on opened response - save answer to player's response object and notify GAME thread about it by response.notifyAll
+    // * - CALL thread: on opened response - save answer to player's response object and notify GAME thread about it by response.signalAll
     // * - GAME thread: on notify from response - check new answer value and process it (if it bad then repeat and wait the next one);
     private transient Boolean responseOpenedForAnswer = false; // GAME thread waiting new answer
     private transient long responseLastWaitingThreadId = 0;
@@ -270,11 +270,14 @@ public class HumanPlayer extends PlayerImpl {
                 sendPlayerAction(PlayerAction.PASS_PRIORITY_UNTIL_STACK_RESOLVED, game, null);
             }
             //waitResponseOpen(); // it's a macro action, no need it here?
-            synchronized (response) {
+            response.lock();
+            try {
                 response.copyFrom(action);
-                response.notifyAll();
+                response.signalAll();
                 macroTriggeredSelectionFlag = false;
                 return true;
+            } finally {
+                response.unlock();
             }
         }
         return false;
@@ -332,14 +335,14 @@ public class HumanPlayer extends PlayerImpl {
             responseOpenedForAnswer = true;
 
             loop = false;
-            synchronized (response) { // TODO: synchronized response smells bad here, possible deadlocks? Need research
-                try {
-                    response.wait(); // start waiting a response.notifyAll command from CALL thread (client answer)
-                } catch (InterruptedException ignore) {
-                } finally {
-                    responseOpenedForAnswer = false;
-                    game.pauseTimer(getTurnControlledBy());
-                }
+            response.lock(); // lock instead synchronized, so virtual game thread will not pin a carrier thread while waiting
+            try {
+                response.await(); // start waiting a response.signalAll command from CALL thread (client answer)
+            } catch (InterruptedException ignore) {
+            } finally {
+                responseOpenedForAnswer = false;
+                game.pauseTimer(getTurnControlledBy());
+                response.unlock();
             }
 
             // async command: concede by any player
@@ -2601,10 +2604,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        response.lock();
+        try {
             response.setString(responseString);
-            response.notifyAll();
+            response.signalAll();
             logger.debug("Got response string from player: " + getId());
+        } finally {
+            response.unlock();
         }
     }
 
@@ -2613,11 +2619,14 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        response.lock();
+        try {
             response.setManaType(manaType);
             response.setResponseManaPlayerId(manaTypePlayerId);
-            response.notifyAll();
+            response.signalAll();
             logger.debug("Got response mana type from player: " + getId());
+        } finally {
+            response.unlock();
         }
     }
 
@@ -2626,10 +2635,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        response.lock();
+        try {
             response.setUUID(responseUUID);
-            response.notifyAll();
+            response.signalAll();
             logger.debug("Got response UUID from player: " + getId());
+        } finally {
+            response.unlock();
         }
     }
 
@@ -2638,10 +2650,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        response.lock();
+        try {
             response.setBoolean(responseBoolean);
-            response.notifyAll();
+            response.signalAll();
             logger.debug("Got response boolean from player: " + getId());
+        } finally {
+            response.unlock();
         }
     }
 
@@ -2650,10 +2665,13 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
+        response.lock();
+        try {
             response.setInteger(responseInteger);
-            response.notifyAll();
+            response.signalAll();
             logger.debug("Got response integer from player: " + getId());
+        } finally {
+            response.unlock();
         }
     }
 
@@ -2661,9 +2679,12 @@ public class HumanPlayer extends PlayerImpl {
     public void abort() {
         // abort must cancel any response and stop waiting immediately
         abort = true;
-        synchronized (response) {
-            response.notifyAll();
+        response.lock();
+        try {
+            response.signalAll();
             logger.debug("Got cancel action from player: " + getId());
+        } finally {
+            response.unlock();
         }
     }
 
@@ -2674,21 +2695,27 @@ public class HumanPlayer extends PlayerImpl {
         // may be executed in CALL, HEALTH, GAME and other threads
         // so make sure another player can't break/stop currently choosing player
 
-        synchronized (response) {
+        response.lock();
+        try {
             response.setAsyncWantConcede(); // tell game that it must check conceding players
             if (stopCurrentChooseDialog) {
-                response.notifyAll(); // will force to stop a current waiting dialog (so game can continue)
+                response.signalAll(); // will force to stop a current waiting dialog (so game can continue)
             }
+        } finally {
+            response.unlock();
         }
     }
 
     @Override
     public void signalPlayerCheat() {
         // waitResponseOpen(); // cheat is async event, will be processed on first player's priority
-        synchronized (response) {
+        response.lock();
+        try {
             response.setAsyncWantCheat();
-            response.notifyAll();
+            response.signalAll();
             logger.debug("Set cheat for waiting player: " + getId());
+        } finally {
+            response.unlock();
         }
     }
 
@@ -2696,10 +2723,13 @@ public class HumanPlayer extends PlayerImpl {
     public void skip() {
         // waitResponseOpen(); //skip is direct event, no need to wait it
         // TODO: can be bugged and must be reworked, see wantConcede as example?!
-        synchronized (response) {
+        response.lock();
+        try {
             response.setInteger(0);
-            response.notifyAll();
+            response.signalAll();
             logger.debug("Got skip action from player: " + getId());
+        } finally {
+            response.unlock();
         }
     }
 
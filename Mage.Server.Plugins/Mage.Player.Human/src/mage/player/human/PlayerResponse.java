@@ -6,6 +6,8 @@ import mage.util.Copyable;
 
 import java.io.Serializable;
 import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Network: server side data for waiting a user's response like new choice
@@ -14,7 +16,8 @@ import java.util.UUID;
  * - one response object per user;
  * - support multiple data types;
  * - waiting and writing response on diff threads;
- * - start by response.wait (game thread) and end by response.notifyAll (network/call thread)
+ * - start by response.await (game thread) and end by response.signalAll (network/call thread)
+ * - sync by lock instead synchronized/wait, so waiting game thread can be virtual without carrier thread pinning
  * - user's request can income in diff order, so only one latest response allowed (except async commands like concede and cheat)
  *
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -38,6 +41,10 @@ public class PlayerResponse implements Serializable, Copyable<PlayerResponse> {
     private Boolean asyncWantConcede;
     private Boolean asyncWantCheat;
 
+    // threads sync, each copy uses own lock (copies used as data only, e.g. in macro)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition answered = lock.newCondition();
+
     public PlayerResponse() {
         clear();
     }
@@ -77,6 +84,31 @@ public class PlayerResponse implements Serializable, Copyable<PlayerResponse> {
         this.asyncWantCheat = response.asyncWantCheat;
     }
 
+    /**
+     * Must be called before any await/signalAll call, use it with try-finally and unlock
+     */
+    public void lock() {
+        lock.lock();
+    }
+
+    public void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * Game thread: wait a new answer or signal from another thread
+     */
+    public void await() throws InterruptedException {
+        answered.await();
+    }
+
+    /**
+     * Any thread: wake up a waiting game thread
+     */
+    public void signalAll() {
+        answered.signalAll();
+    }
+
     public void clear() {
         this.activeAction = null;
         this.activeGameInfo = null;
@@ -395,6 +395,20 @@ public class MageServerImpl implements MageServer {
         return null;
     }
 
+    @Override
+    //FIXME: why no sessionId here???
+    public LobbyDeltaView<TableView> roomGetTablesDelta(UUID roomId, UUID sinceEpoch, long sinceVersion) throws MageException {
+        try {
+            Optional<GamesRoom> room = managerFactory.gamesRoomManager().getRoom(roomId);
+            if (room.isPresent()) {
+                return room.get().getTablesDelta(sinceEpoch, sinceVersion);
+            }
+        } catch (Exception ex) {
+            handleException(ex);
+        }
+        return null;
+    }
+
     @Override
     //FIXME: why no sessionId here???
     public List<MatchView> roomGetFinishedMatches(UUID roomId) throws MageException {
@@ -406,6 +420,20 @@ public class MageServerImpl implements MageServer {
         return new ArrayList<>();
     }
 
+    @Override
+    //FIXME: why no sessionId here???
+    public LobbyDeltaView<MatchView> roomGetFinishedMatchesDelta(UUID roomId, UUID sinceEpoch, long sinceVersion) throws MageException {
+        try {
+            Optional<GamesRoom> room = managerFactory.gamesRoomManager().getRoom(roomId);
+            if (room.isPresent()) {
+                return room.get().getFinishedDelta(sinceEpoch, sinceVersion);
+            }
+        } catch (Exception ex) {
+            handleException(ex);
+        }
+        return null;
+    }
+
     @Override
     public List<RoomUsersView> roomGetUsers(UUID roomId) throws MageException {
         try {
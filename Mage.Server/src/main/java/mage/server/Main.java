@@ -4,6 +4,7 @@ import mage.cards.ExpansionSet;
 import mage.cards.RateCard;
 import mage.cards.Sets;
 import mage.cards.decks.DeckValidatorFactory;
+import mage.cards.repository.CardPrintingsIndex;
 import mage.cards.repository.CardScanner;
 import mage.cards.repository.PluginClassloaderRegistery;
 import mage.cards.repository.RepositoryUtil;
@@ -23,6 +24,7 @@ import mage.server.util.ConfigFactory;
 import mage.server.util.ConfigWrapper;
 import mage.server.util.PluginClassLoader;
 import mage.server.util.ServerMessagesUtil;
+import mage.server.util.ServerMetrics;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
 import mage.utils.MageVersion;
@@ -190,6 +192,7 @@ public final class Main {
 
         logger.info("Loading cards...");
         CardScanner.scan();
+        CardPrintingsIndex.getInstance(); // preload for deck validations
         logger.info("Done.");
 
         // cards preload with ratings
@@ -249,6 +252,7 @@ public final class Main {
         logger.info("Config - server address:   " + config.getServerAddress());
         logger.info("Config - server port:      " + config.getPort());
         logger.info("Config - max game threads: " + config.getMaxGameThreads());
+        logger.info("Config - virtual game th.: " + (config.isVirtualGameThreads() ? "true" : "false"));
         logger.info("Config - max seconds idle: " + config.getMaxSecondsIdle());
         logger.info("Config - max AI opponents: " + config.getMaxAiOpponents());
         logger.info("Config - min usr name le.: " + config.getMinUserNameLength());
@@ -315,6 +319,7 @@ public final class Main {
 
     static void initStatistics() {
         ServerMessagesUtil.instance.setStartDate(System.currentTimeMillis());
+        ServerMetrics.startExport();
     }
 
     static boolean isAlreadyRunning(ConfigSettings config, InvokerLocator serverLocator) {
@@ -9,6 +9,7 @@ import mage.players.net.UserGroup;
 import mage.server.game.GamesRoom;
 import mage.server.managers.ConfigSettings;
 import mage.server.managers.ManagerFactory;
+import mage.server.util.ServerMetrics;
 import mage.util.RandomUtil;
 import mage.util.ThreadUtils;
 import mage.utils.SystemUtil;
@@ -19,8 +20,8 @@ import org.jboss.remoting.callback.HandleCallbackException;
 import org.jboss.remoting.callback.InvokerCallbackHandler;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -61,6 +62,16 @@ public class Session {
     //      visualvm can help with threads monitor
     private static final boolean SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION = false; // TODO: enable after full research
 
+    // outbound callbacks: game thread puts it to the session's queue and sender thread sends it to the client,
+    // so slow client can't stall the game
+    // * consecutive game updates collapse to the latest one;
+    // * if queue is full then unordered callbacks will be dropped;
+    // * if queue is still growing then client can't receive data at all, so it must be disconnected;
+    // * sender threads are shared by all sessions, so sender gives up its thread after a batch of callbacks;
+    private static final int OUTBOUND_QUEUE_MAX_SIZE = 500;
+    private static final int OUTBOUND_QUEUE_DISCONNECT_SIZE = OUTBOUND_QUEUE_MAX_SIZE * 2;
+    private static final int OUTBOUND_SEND_BATCH_SIZE = 50;
+
     private final ManagerFactory managerFactory;
     private final String sessionId;
     private UUID userId;
@@ -69,11 +80,17 @@ public class Session {
     private final Date timeConnected;
     private boolean isAdmin = false;
     private final AsynchInvokerCallbackHandler callbackHandler;
-    private boolean valid = true;
+    private volatile boolean valid = true; // read by callback threads without lock
 
     private final ReentrantLock lock;
-    private final ReentrantLock callBackLock;
-    private String lastCallbackInfo = "";
+    private volatile String lastCallbackInfo = "";
+
+    private final Deque<ClientCallback> outboundQueue = new ArrayDeque<>(); // sync by itself
+    private boolean outboundSending = false; // sync by outboundQueue
+    private final AtomicLong outboundSent = new AtomicLong();
+    private final AtomicLong outboundCoalesced = new AtomicLong();
+    private final AtomicLong outboundDropped = new AtomicLong();
+    private volatile int outboundMaxDepth = 0;
 
     public Session(ManagerFactory managerFactory, String sessionId, InvokerCallbackHandler callbackHandler) {
         this.managerFactory = managerFactory;
@@ -82,7 +99,6 @@ public class Session {
         this.isAdmin = false;
         this.timeConnected = new Date();
         this.lock = new ReentrantLock();
-        this.callBackLock = new ReentrantLock();
     }
 
     public String registerUser(String userName, String password, String email) {
@@ -426,54 +442,143 @@ public class Session {
     }
 
     /**
-     * Send event/command to the client
+     * Put callback to the session's outbound queue (non-blocking, real sending works in sender thread)
      */
     public void fireCallback(final ClientCallback call) {
-        boolean lockSet = false; // TODO: research about locks, why it here? 2023-12-06
+        if (!valid) {
+            return;
+        }
 
-        try {
-            if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
-                lastCallbackInfo = call.getInfo();
-                call.setMessageId(messageId.incrementAndGet());
-                lockSet = true;
-                Callback callback = new Callback(call);
-                boolean sendAsync = SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
-                        && call.getMethod().getType().canComeInAnyOrder();
-                callbackHandler.handleCallbackOneway(callback, sendAsync);
+        boolean needSender;
+        boolean needDisconnect = false;
+        synchronized (outboundQueue) {
+            ClientCallback last = outboundQueue.peekLast();
+            if (last != null
+                    && call.getMethod() == ClientCallbackMethod.GAME_UPDATE
+                    && last.getMethod() == ClientCallbackMethod.GAME_UPDATE
+                    && Objects.equals(last.getObjectId(), call.getObjectId())) {
+                // only latest game view is useful
+                outboundQueue.pollLast();
+                outboundCoalesced.incrementAndGet();
+                ServerMetrics.CALLBACK_COALESCED.increment();
+            } else if (outboundQueue.size() >= OUTBOUND_QUEUE_MAX_SIZE
+                    && call.getMethod().getType().canComeInAnyOrder()) {
+                // client is too slow, so skip unimportant data
+                outboundDropped.incrementAndGet();
+                ServerMetrics.CALLBACK_DROPPED.increment();
+                return;
             }
-        } catch (InterruptedException ex) {
-            // already sending another command (connection problem?)
-            // TODO: un-support multiple games/drafts at the same time?!?!?!?!
-            if (call.getMethod().equals(ClientCallbackMethod.GAME_INIT)
-                    || call.getMethod().equals(ClientCallbackMethod.START_GAME)) {
-                // it's ok, possible use cases:
-                // - user has connection problem so can't send game init (see sendInfoAboutPlayersNotJoinedYetAndTryToFixIt)
+
+            if (outboundQueue.size() >= OUTBOUND_QUEUE_DISCONNECT_SIZE) {
+                needDisconnect = true;
             } else {
-                logger.warn("SESSION LOCK, possible connection problem - fireCallback - userId: "
-                        + userId + ", prev call: " + lastCallbackInfo + ", current call: " + call.getInfo(), ex);
+                outboundQueue.addLast(call);
+                outboundMaxDepth = Math.max(outboundMaxDepth, outboundQueue.size());
+                ServerMetrics.CALLBACK_QUEUE_DEPTH.record(outboundQueue.size());
+            }
+
+            needSender = !needDisconnect && !outboundSending;
+            if (needSender) {
+                outboundSending = true;
+            }
+        }
+
+        if (needDisconnect) {
+            ServerMetrics.CALLBACK_OVERFLOW.increment();
+            logger.warn("SESSION OUTBOUND QUEUE OVERFLOW, client can't receive data - userId: "
+                    + userId + ", prev call: " + lastCallbackInfo + ", current call: " + call.getInfo());
+            disconnectOnCallbackError();
+            return;
+        }
+
+        if (needSender) {
+            managerFactory.threadExecutor().getCallbackSenderExecutor().execute(this::sendOutboundQueue);
+        }
+    }
+
+    /**
+     * Sender thread: send callbacks from the queue in strict order (only one sender per session at a time)
+     */
+    private void sendOutboundQueue() {
+        for (int sent = 0; sent < OUTBOUND_SEND_BATCH_SIZE; sent++) {
+            ClientCallback call;
+            synchronized (outboundQueue) {
+                call = outboundQueue.pollFirst();
+                if (call == null || !valid) {
+                    outboundQueue.clear();
+                    outboundSending = false;
+                    return;
+                }
+            }
+            sendCallback(call);
+        }
+
+        // give a chance to other sessions, queue will be continued by the same sender task (order is kept)
+        managerFactory.threadExecutor().getCallbackSenderExecutor().execute(this::sendOutboundQueue);
+    }
+
+    private void sendCallback(final ClientCallback call) {
+        try {
+            lastCallbackInfo = call.getInfo();
+            call.setMessageId(messageId.incrementAndGet());
+            Callback callback = new Callback(call);
+            boolean sendAsync = SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
+                    && call.getMethod().getType().canComeInAnyOrder();
+            long startTime = System.nanoTime();
+            callbackHandler.handleCallbackOneway(callback, sendAsync);
+            ServerMetrics.CALLBACK_SEND_TIME.recordNanosSince(startTime);
+            outboundSent.incrementAndGet();
+            if (call.getMethod().name().startsWith("GAME_")) {
+                int dataSize = call.getCompressedDataSize();
+                if (dataSize >= 0) {
+                    ServerMetrics.GAME_VIEW_SIZE.record(dataSize);
+                }
             }
         } catch (HandleCallbackException ex) {
             // general error
             // can raise on server freeze or normal connection problem from a client side
             // no need to print a full stack log here
+            ServerMetrics.CALLBACK_ERRORS.increment();
             logger.warn("SESSION CALLBACK EXCEPTION - " + ThreadUtils.findRootException(ex) + ", userId " + userId + ", messageId: " + call.getMessageId());
-
-            // do not send data anymore (user must reconnect)
-            this.valid = false;
-            managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
+            disconnectOnCallbackError();
         } catch (Throwable ex) {
+            ServerMetrics.CALLBACK_ERRORS.increment();
             logger.error("SESSION CALLBACK UNKNOWN EXCEPTION - " + ThreadUtils.findRootException(ex) + ", userId " + userId + ", messageId: " + call.getMessageId(), ex);
+            disconnectOnCallbackError();
+        }
+    }
 
-            // do not send data anymore (user must reconnect)
-            this.valid = false;
-            managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
-        } finally {
-            if (lockSet) {
-                callBackLock.unlock();
-            }
+    private void disconnectOnCallbackError() {
+        // do not send data anymore (user must reconnect)
+        this.valid = false;
+        managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
+    }
+
+    /**
+     * Outbound queue stats: current callbacks in the queue
+     */
+    public int getOutboundQueueDepth() {
+        synchronized (outboundQueue) {
+            return outboundQueue.size();
         }
     }
 
+    public int getOutboundQueueMaxDepth() {
+        return outboundMaxDepth;
+    }
+
+    public long getOutboundSentCount() {
+        return outboundSent.get();
+    }
+
+    public long getOutboundCoalescedCount() {
+        return outboundCoalesced.get();
+    }
+
+    public long getOutboundDroppedCount() {
+        return outboundDropped.get();
+    }
+
     public UUID getUserId() {
         return userId;
     }
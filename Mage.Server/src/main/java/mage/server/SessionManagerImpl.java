@@ -214,5 +214,21 @@ public class SessionManagerImpl implements SessionManager {
     public void checkHealth() {
         //logger.info("Checking sessions...");
         // TODO: add lone sessions check and report (with lost user)
+
+        // outbound queues stats
+        int queued = 0;
+        int maxDepth = 0;
+        long coalesced = 0;
+        long dropped = 0;
+        for (Session session : sessions.values()) {
+            queued += session.getOutboundQueueDepth();
+            maxDepth = Math.max(maxDepth, session.getOutboundQueueMaxDepth());
+            coalesced += session.getOutboundCoalescedCount();
+            dropped += session.getOutboundDroppedCount();
+        }
+        if (queued > 0 || dropped > 0) {
+            logger.info(String.format("Sessions outbound queues: %d sessions, %d queued, %d max depth, %d coalesced, %d dropped",
+                    sessions.size(), queued, maxDepth, coalesced, dropped));
+        }
     }
 }
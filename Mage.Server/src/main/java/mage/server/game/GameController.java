@@ -23,6 +23,7 @@ import mage.players.Player;
 import mage.server.Main;
 import mage.server.User;
 import mage.server.managers.ManagerFactory;
+import mage.server.util.ServerMetrics;
 import mage.util.MultiAmountMessage;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
@@ -818,13 +819,17 @@ public class GameController implements GameCallback {
     }
 
     private synchronized void updateGame() {
+        long startTime = System.nanoTime();
         updatePriorityTimers();
         for (final GameSessionPlayer gameSession : getGameSessions()) {
             gameSession.update();
         }
+        // public view builds once for all watchers
+        SharedWatcherView sharedView = new SharedWatcherView(game);
         for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+            gameWatcher.update(sharedView);
         }
+        ServerMetrics.GAME_UPDATE_TIME.recordNanosSince(startTime);
     }
 
     private synchronized void endGameInfo() {
@@ -917,8 +922,9 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message.toString());
             }
         }
+        SharedWatcherView sharedView = new SharedWatcherView(game);
         for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message.toString());
+            watcher.inform(sharedView, message.toString());
         }
     }
 
@@ -938,8 +944,9 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message);
             }
         }
+        SharedWatcherView sharedView = new SharedWatcherView(game);
         for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
-            watcher.inform(message);
+            watcher.inform(sharedView, message);
         }
     }
 
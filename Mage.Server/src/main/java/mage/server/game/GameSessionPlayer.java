@@ -13,6 +13,7 @@ import mage.players.Player;
 import mage.server.User;
 import mage.server.managers.ManagerFactory;
 import mage.server.managers.UserManager;
+import mage.server.util.ServerMetrics;
 import mage.util.MultiAmountMessage;
 import mage.view.*;
 import org.apache.log4j.Logger;
@@ -211,6 +212,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public static GameView prepareGameView(Game game, UUID playerId, UUID userId) {
         // game view calculation can take some time and can be called from non-game thread,
         // so use copy for thread save (protection from ConcurrentModificationException)
+        long startTime = System.nanoTime();
         Game sourceGame = game.copy();
         GameView gameView = new GameView(sourceGame.getState(), sourceGame, playerId, null);
 
@@ -226,6 +228,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
         processWatchedHands(sourceGame, userId, gameView);
         //TODO: should player who controls another player's turn be able to look at all these cards?
 
+        ServerMetrics.GAME_VIEW_BUILD_TIME.recordNanosSince(startTime);
         return gameView;
     }
 
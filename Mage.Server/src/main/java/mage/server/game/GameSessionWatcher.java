@@ -7,6 +7,7 @@ import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.Player;
 import mage.server.User;
 import mage.server.managers.UserManager;
+import mage.server.util.ServerMetrics;
 import mage.view.GameClientMessage;
 import mage.view.GameEndView;
 import mage.view.GameView;
@@ -58,6 +59,20 @@ public class GameSessionWatcher {
 
     }
 
+    /**
+     * Update with shared public view (same for all watchers, see SharedWatcherView)
+     */
+    public void update(SharedWatcherView sharedView) {
+        if (!killed) {
+            if (hasWatchedHands()) {
+                // personal data - can't use shared view
+                update();
+                return;
+            }
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), sharedView.getCompressedGameView())));
+        }
+    }
+
     public void inform(final String message) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, game.getId(), new GameClientMessage(getGameView(), null, message))));
@@ -65,6 +80,20 @@ public class GameSessionWatcher {
 
     }
 
+    /**
+     * Inform with shared public view (same for all watchers, see SharedWatcherView)
+     */
+    public void inform(SharedWatcherView sharedView, final String message) {
+        if (!killed) {
+            if (hasWatchedHands()) {
+                // personal data - can't use shared view
+                inform(message);
+                return;
+            }
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, game.getId(), sharedView.getCompressedMessage(message))));
+        }
+    }
+
     public void informPersonal(final String message) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(getGameView(), null, message))));
@@ -101,13 +130,27 @@ public class GameSessionWatcher {
     public GameView getGameView() {
         // game view calculation can take some time and can be called from non-game thread,
         // so use copy for thread save (protection from ConcurrentModificationException)
+        long startTime = System.nanoTime();
         Game sourceGame = game.copy();
 
         GameView gameView = new GameView(sourceGame.getState(), sourceGame, null, userId);
         processWatchedHands(sourceGame, userId, gameView);
+        ServerMetrics.GAME_VIEW_BUILD_TIME.recordNanosSince(startTime);
         return gameView;
     }
 
+    /**
+     * Watcher can see hands of some players, so it needs personal game view
+     */
+    public boolean hasWatchedHands() {
+        for (Player player : game.getPlayers().values()) {
+            if (player.hasUserPermissionToSeeHand(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected static void processWatchedHands(Game game, UUID userId, GameView gameView) {
         gameView.getWatchedHands().clear();
         for (Player player : game.getPlayers().values()) {
@@ -9,6 +9,7 @@ import mage.game.match.MatchOptions;
 import mage.game.tournament.TournamentOptions;
 import mage.players.PlayerType;
 import mage.server.Room;
+import mage.view.LobbyDeltaView;
 import mage.view.MatchView;
 import mage.view.RoomUsersView;
 import mage.view.TableView;
@@ -25,6 +26,8 @@ public interface GamesRoom extends Room {
 
     List<TableView> getTables();
     List<MatchView> getFinished();
+    LobbyDeltaView<TableView> getTablesDelta(UUID sinceEpoch, long sinceVersion);
+    LobbyDeltaView<MatchView> getFinishedDelta(UUID sinceEpoch, long sinceVersion);
     List<RoomUsersView> getRoomUsersInfo();
     boolean joinTable(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws MageException;
     boolean joinTournamentTable(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws GameException;
@@ -13,6 +13,7 @@ import mage.server.User;
 import mage.server.managers.ManagerFactory;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
+import mage.view.LobbyDeltaView;
 import mage.view.MatchView;
 import mage.view.RoomUsersView;
 import mage.view.TableView;
@@ -35,9 +36,10 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
 
     private static final int MAX_FINISHED_TABLES = 25;
 
-    // server's lobby
-    private static List<TableView> lobbyTables = new ArrayList<>();
-    private static List<MatchView> lobbyMatches = new ArrayList<>();
+    // server's lobby (clients download changes only, see getTablesDelta)
+    private static final VersionedLobbyList<TableView> lobbyTables = new VersionedLobbyList<>(TableView::getTableId);
+    private static final VersionedLobbyList<MatchView> lobbyMatches = new VersionedLobbyList<>(MatchView::getTableId);
+    private static final Map<UUID, MatchView> finishedMatchViews = new HashMap<>(); // finished table never changes, so build it once
     private static List<RoomUsersView> lobbyUsers = new ArrayList<>();
     private static final ScheduledExecutorService UPDATE_LOBBY_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
             new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_LOBBY_REFRESH)
@@ -63,7 +65,12 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
 
     @Override
     public List<TableView> getTables() {
-        return lobbyTables;
+        return lobbyTables.getAll();
+    }
+
+    @Override
+    public LobbyDeltaView<TableView> getTablesDelta(UUID sinceEpoch, long sinceVersion) {
+        return lobbyTables.getDelta(sinceEpoch, sinceVersion);
     }
 
     private void updateLobby() {
@@ -76,7 +83,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
             if (table.getState() != TableState.FINISHED) {
                 tableList.add(new TableView(table));
             } else if (matchList.size() < MAX_FINISHED_TABLES) {
-                matchList.add(new MatchView(table));
+                matchList.add(finishedMatchViews.computeIfAbsent(table.getId(), tableId -> new MatchView(table)));
             } else {
                 // more since 50 matches finished since this match so removeUserFromAllTablesAndChat it
                 if (table.isTournament()) {
@@ -85,8 +92,13 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
                 this.removeTable(table.getId());
             }
         }
-        lobbyTables = tableList;
-        lobbyMatches = matchList;
+        Set<UUID> finishedIds = new HashSet<>();
+        matchList.forEach(match -> finishedIds.add(match.getTableId()));
+        finishedMatchViews.keySet().retainAll(finishedIds);
+
+        // unchanged views will be ignored by clients' delta requests
+        lobbyTables.update(tableList);
+        lobbyMatches.update(matchList);
 
         // users
         List<UsersView> users = new ArrayList<>();
@@ -127,7 +139,12 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
 
     @Override
     public List<MatchView> getFinished() {
-        return lobbyMatches;
+        return lobbyMatches.getAll();
+    }
+
+    @Override
+    public LobbyDeltaView<MatchView> getFinishedDelta(UUID sinceEpoch, long sinceVersion) {
+        return lobbyMatches.getDelta(sinceEpoch, sinceVersion);
     }
 
     @Override
@@ -0,0 +1,52 @@
+package mage.server.game;
+
+import mage.game.Game;
+import mage.server.util.ServerMetrics;
+import mage.utils.CompressUtil;
+import mage.view.GameClientMessage;
+import mage.view.GameView;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Public game view for all watchers of the game update: built, serialized and compressed
+ * only once and then sent to each watcher session (instead personal view per watcher).
+ * <p>
+ * Watchers with additional permissions (e.g. can see player's hand) must use personal view.
+ * Created on demand, so there is no calculation for games without watchers.
+ */
+public class SharedWatcherView {
+
+    private final Game game;
+    private GameView gameView;
+    private Object compressedGameView;
+    private final Map<String, Object> compressedMessages = new HashMap<>();
+
+    public SharedWatcherView(Game game) {
+        this.game = game;
+    }
+
+    public synchronized GameView getGameView() {
+        if (gameView == null) {
+            // game view calculation can take some time and can be called from non-game thread,
+            // so use copy for thread save (protection from ConcurrentModificationException)
+            long startTime = System.nanoTime();
+            Game sourceGame = game.copy();
+            gameView = new GameView(sourceGame.getState(), sourceGame, null, null);
+            ServerMetrics.GAME_VIEW_BUILD_TIME.recordNanosSince(startTime);
+        }
+        return gameView;
+    }
+
+    public synchronized Object getCompressedGameView() {
+        if (compressedGameView == null) {
+            compressedGameView = CompressUtil.compress(getGameView());
+        }
+        return compressedGameView;
+    }
+
+    public synchronized Object getCompressedMessage(String message) {
+        return compressedMessages.computeIfAbsent(message, m -> CompressUtil.compress(new GameClientMessage(getGameView(), null, m)));
+    }
+}
@@ -0,0 +1,126 @@
+package mage.server.game;
+
+import mage.view.LobbyDeltaView;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Lobby's list with monotonic version, so clients can download changes only (see LobbyDeltaView).
+ * <p>
+ * Each item keeps the version of its last change, removed items keep tombstones for a while,
+ * clients with another epoch (e.g. list from the server before restart), unknown or too old version
+ * get a full snapshot. Items are compared by equals, so unchanged views must be equal (or same object).
+ *
+ * @param <T> item's view
+ */
+class VersionedLobbyList<T extends Serializable> {
+
+    private static final int MAX_REMOVED_HISTORY = 1000;
+
+    private final Function<T, UUID> idGetter;
+
+    private final UUID epoch = UUID.randomUUID(); // versions are comparable inside same list only
+    private long version = 0;
+    private long fullSnapshotBeforeVersion = 0; // clients with older version lost some tombstones
+    private Map<UUID, VersionedItem<T>> items = new LinkedHashMap<>(); // keeps items order from update
+    private final LinkedHashMap<UUID, Long> removed = new LinkedHashMap<>(); // ordered by version
+    private List<T> all = Collections.emptyList();
+
+    VersionedLobbyList(Function<T, UUID> idGetter) {
+        this.idGetter = idGetter;
+    }
+
+    /**
+     * Replace all items by new list, version increases on any changes only
+     */
+    synchronized void update(List<T> newList) {
+        long newVersion = this.version + 1;
+        boolean changed = false;
+
+        Map<UUID, VersionedItem<T>> newItems = new LinkedHashMap<>();
+        for (T view : newList) {
+            UUID id = idGetter.apply(view);
+            VersionedItem<T> oldItem = this.items.get(id);
+            if (oldItem != null && Objects.equals(oldItem.view, view)) {
+                newItems.put(id, oldItem);
+            } else {
+                newItems.put(id, new VersionedItem<>(view, newVersion));
+                this.removed.remove(id);
+                changed = true;
+            }
+        }
+
+        for (UUID id : this.items.keySet()) {
+            if (!newItems.containsKey(id)) {
+                this.removed.put(id, newVersion);
+                changed = true;
+            }
+        }
+        Iterator<Map.Entry<UUID, Long>> it = this.removed.entrySet().iterator();
+        while (this.removed.size() > MAX_REMOVED_HISTORY && it.hasNext()) {
+            this.fullSnapshotBeforeVersion = Math.max(this.fullSnapshotBeforeVersion, it.next().getValue());
+            it.remove();
+        }
+
+        if (changed) {
+            this.version = newVersion;
+        }
+        this.items = newItems;
+        this.all = Collections.unmodifiableList(new ArrayList<>(newList));
+    }
+
+    UUID getEpoch() {
+        return this.epoch;
+    }
+
+    synchronized long getVersion() {
+        return this.version;
+    }
+
+    synchronized List<T> getAll() {
+        return this.all;
+    }
+
+    /**
+     * Changes since client's version
+     *
+     * @param sinceEpoch   client's last known epoch, null for a full snapshot
+     * @param sinceVersion client's last known version, 0 for a full snapshot
+     */
+    synchronized LobbyDeltaView<T> getDelta(UUID sinceEpoch, long sinceVersion) {
+        // server restart or first request or lost tombstones - send all
+        if (!this.epoch.equals(sinceEpoch)
+                || sinceVersion <= 0
+                || sinceVersion > this.version
+                || sinceVersion < this.fullSnapshotBeforeVersion) {
+            return new LobbyDeltaView<>(this.epoch, this.version, true, new ArrayList<>(this.all), new HashSet<>());
+        }
+
+        List<T> changed = new ArrayList<>();
+        for (VersionedItem<T> item : this.items.values()) {
+            if (item.version > sinceVersion) {
+                changed.add(item.view);
+            }
+        }
+        Set<UUID> removedIds = new HashSet<>();
+        this.removed.forEach((id, removedVersion) -> {
+            if (removedVersion > sinceVersion) {
+                removedIds.add(id);
+            }
+        });
+        return new LobbyDeltaView<>(this.epoch, this.version, false, changed, removedIds);
+    }
+
+    private static class VersionedItem<T> {
+
+        private final T view;
+        private final long version;
+
+        private VersionedItem(T view, long version) {
+            this.view = view;
+            this.version = version;
+        }
+    }
+}
@@ -26,6 +26,8 @@ public interface ConfigSettings {
 
     int getMaxGameThreads();
 
+    boolean isVirtualGameThreads();
+
     int getMaxSecondsIdle();
 
     int getMinUserNameLength();
@@ -25,6 +25,11 @@ public interface ThreadExecutor {
      */
     ExecutorService getCallExecutor();
 
+    /**
+     * Helper threads to send data to clients (example: game updates, chat messages)
+     */
+    ExecutorService getCallbackSenderExecutor();
+
     /**
      * Helper threads to execute async timers and time related tasks
      */
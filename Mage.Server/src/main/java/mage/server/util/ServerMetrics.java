@@ -0,0 +1,147 @@
+package mage.server.util;
+
+import com.sun.net.httpserver.HttpServer;
+import mage.util.metrics.Counter;
+import mage.util.metrics.Histogram;
+import mage.util.metrics.MetricsRegistry;
+import org.apache.log4j.Logger;
+
+import javax.management.*;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Server side metrics and export of all app metrics (see MetricsRegistry):
+ * <p>
+ * - JMX: always enabled, use any JMX client like jconsole or VisualVM (MBean org.mage:type=Metrics);
+ * <p>
+ * - http: disabled by default, add java param like -Dxmage.metrics.port=9090 and open
+ * http://localhost:9090/metrics (plain text, one metric per line, local connections only)
+ */
+public final class ServerMetrics {
+
+    private static final Logger logger = Logger.getLogger(ServerMetrics.class);
+
+    private static final String METRICS_HTTP_PORT_PROPERTY = "xmage.metrics.port";
+    private static final String METRICS_JMX_NAME = "org.mage:type=Metrics";
+
+    // game
+    public static final Histogram GAME_UPDATE_TIME = MetricsRegistry.instance.histogram("server.game.update.nanos");
+    public static final Histogram GAME_VIEW_BUILD_TIME = MetricsRegistry.instance.histogram("server.game.view.build.nanos");
+    public static final Histogram GAME_VIEW_SIZE = MetricsRegistry.instance.histogram("server.game.view.bytes");
+
+    // client callbacks
+    public static final Histogram CALLBACK_SEND_TIME = MetricsRegistry.instance.histogram("server.callback.send.nanos");
+    public static final Histogram CALLBACK_QUEUE_DEPTH = MetricsRegistry.instance.histogram("server.callback.queue.depth");
+    public static final Counter CALLBACK_COALESCED = MetricsRegistry.instance.counter("server.callback.coalesced");
+    public static final Counter CALLBACK_DROPPED = MetricsRegistry.instance.counter("server.callback.dropped");
+    public static final Counter CALLBACK_OVERFLOW = MetricsRegistry.instance.counter("server.callback.overflow");
+    public static final Counter CALLBACK_ERRORS = MetricsRegistry.instance.counter("server.callback.errors");
+
+    private static HttpServer httpServer = null;
+
+    private ServerMetrics() {
+    }
+
+    public static synchronized void startExport() {
+        try {
+            ObjectName objectName = new ObjectName(METRICS_JMX_NAME);
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(new MetricsMBean(), objectName);
+                logger.info("Metrics: JMX export enabled as " + METRICS_JMX_NAME);
+            }
+        } catch (JMException e) {
+            logger.error("Metrics: can't register JMX bean - " + e, e);
+        }
+
+        String port = System.getProperty(METRICS_HTTP_PORT_PROPERTY);
+        if (port != null && httpServer == null) {
+            try {
+                httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(port)), 0);
+                httpServer.createContext("/metrics", exchange -> {
+                    byte[] data = makeTextReport().getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+                    exchange.sendResponseHeaders(200, data.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(data);
+                    }
+                });
+                httpServer.start();
+                logger.info("Metrics: http export enabled on http://localhost:" + port + "/metrics");
+            } catch (IOException | IllegalArgumentException e) {
+                httpServer = null;
+                logger.error("Metrics: can't start http export on port " + port + " - " + e, e);
+            }
+        }
+    }
+
+    /**
+     * Plain text report in prometheus compatible format (name value)
+     */
+    public static String makeTextReport() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> entry : MetricsRegistry.instance.snapshot().entrySet()) {
+            sb.append("xmage_").append(entry.getKey().replace('.', '_'))
+                    .append(' ').append(entry.getValue())
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Read only bean with all metrics as attributes (metrics list can grow at runtime)
+     */
+    private static class MetricsMBean implements DynamicMBean {
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            Long value = MetricsRegistry.instance.snapshot().get(attribute);
+            if (value == null) {
+                throw new AttributeNotFoundException("Unknown metric: " + attribute);
+            }
+            return value;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Metrics are read only: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            Map<String, Long> snapshot = MetricsRegistry.instance.snapshot();
+            AttributeList res = new AttributeList();
+            for (String attribute : attributes) {
+                Long value = snapshot.get(attribute);
+                if (value != null) {
+                    res.add(new Attribute(attribute, value));
+                }
+            }
+            return res;
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+            throw new ReflectionException(new NoSuchMethodException(actionName));
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            MBeanAttributeInfo[] attributes = MetricsRegistry.instance.snapshot().keySet().stream()
+                    .map(name -> new MBeanAttributeInfo(name, Long.class.getName(), name, true, false, false))
+                    .toArray(MBeanAttributeInfo[]::new);
+            return new MBeanInfo(getClass().getName(), "XMage server metrics", attributes, null, null, null);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import mage.server.managers.ConfigSettings;
 import mage.server.managers.ThreadExecutor;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
+import mage.util.metrics.MetricsRegistry;
 import org.apache.log4j.Logger;
 
 import java.util.concurrent.*;
@@ -19,9 +20,14 @@ public class ThreadExecutorImpl implements ThreadExecutor {
     // example: server can have 50 games and 10 tourney at a time
     private static final int GAMES_PER_TOURNEY_RATIO = 50 / 10;
 
+    // callbacks sender waits for a client, so slow clients can hold the threads (example: 2 players and watchers per game)
+    private static final int CALLBACK_SENDERS_PER_GAME = 4;
+    private static final int CALLBACK_SENDERS_MIN = 16;
+
     private final ExecutorService callExecutor; // shareable threads to run single task (example: save new game settings from a user, send chat message, etc)
     private final ExecutorService gameExecutor; // game threads to run long tasks, one per game (example: run game and wait user's feedback)
     private final ExecutorService tourneyExecutor; // tourney threads (example: make draft, construction, build and run other game threads)
+    private final ExecutorService callbackSenderExecutor; // shareable threads to send data to clients, one task per session at a time
     private final ScheduledExecutorService timeoutExecutor;
     private final ScheduledExecutorService timeoutIdleExecutor;
     private final ScheduledExecutorService serverHealthExecutor;
@@ -43,10 +49,9 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) callExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST));
 
-        gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
-        ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        gameExecutor = createGameExecutor(config);
+
+        callbackSenderExecutor = createCallbackSenderExecutor(config);
 
         tourneyExecutor = new FixedThreadPoolWithException(Math.max(2, config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO));
         ((ThreadPoolExecutor) tourneyExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
@@ -64,6 +69,64 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         ((ThreadPoolExecutor) timeoutIdleExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_TIMEOUT_IDLE));
 
         serverHealthExecutor = Executors.newSingleThreadScheduledExecutor(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_HEALTH));
+
+        // metrics (games waiting for a free game thread must be zero in normal use case)
+        MetricsRegistry.instance.gauge("server.game.threads.active", () -> getActiveThreads(gameExecutor));
+        MetricsRegistry.instance.gauge("server.game.threads.queue", () -> ((ThreadPoolExecutor) gameExecutor).getQueue().size());
+        MetricsRegistry.instance.gauge("server.call.threads.active", () -> getActiveThreads(callExecutor));
+        MetricsRegistry.instance.gauge("server.tourney.threads.queue", () -> ((ThreadPoolExecutor) tourneyExecutor).getQueue().size());
+        MetricsRegistry.instance.gauge("server.callback.threads.active", () -> getActiveThreads(callbackSenderExecutor));
+        MetricsRegistry.instance.gauge("server.callback.threads.queue", () -> ((ThreadPoolExecutor) callbackSenderExecutor).getQueue().size());
+    }
+
+    /**
+     * Game threads spend most of the time in waiting for user's feedback, so it can be started as virtual threads
+     * (java 21+) without games limit. AI simulations uses own CPU bounded pools in any mode.
+     */
+    private static ExecutorService createGameExecutor(ConfigSettings config) {
+        if (config.isVirtualGameThreads()) {
+            ThreadFactory virtualThreadFactory = XmageThreadFactory.createVirtualOrNull(ThreadUtils.THREAD_PREFIX_GAME);
+            if (virtualThreadFactory != null) {
+                logger.info("Game threads: virtual threads mode, games amount is not limited by max game threads");
+                return new VirtualThreadPoolWithException(virtualThreadFactory);
+            }
+            logger.warn("Game threads: virtual threads are not supported by java " + System.getProperty("java.version")
+                    + ", use java 21+ for it, fallback to system threads mode");
+        }
+
+        ThreadPoolExecutor executor = new FixedThreadPoolWithException(config.getMaxGameThreads());
+        executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        executor.setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        return executor;
+    }
+
+    /**
+     * Callbacks sender spends most of the time in waiting for a network, so it can be started as virtual threads
+     * (java 21+), otherwise it uses limited amount of system threads and other sessions wait in the queue
+     */
+    private static ExecutorService createCallbackSenderExecutor(ConfigSettings config) {
+        if (config.isVirtualGameThreads()) {
+            ThreadFactory virtualThreadFactory = XmageThreadFactory.createVirtualOrNull(ThreadUtils.THREAD_PREFIX_SERVICE_CALLBACK_SENDER);
+            if (virtualThreadFactory != null) {
+                return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), virtualThreadFactory);
+            }
+        }
+
+        int maxThreads = Math.max(CALLBACK_SENDERS_MIN, config.getMaxGameThreads() * CALLBACK_SENDERS_PER_GAME);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        executor.setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_CALLBACK_SENDER));
+        return executor;
+    }
+
+    private static void logGameThreadError(Runnable r, Throwable t) {
+        // catch errors in GAME threads (from game processing)
+        t = ThreadUtils.findRunnableException(r, t);
+        if (t != null && !(t instanceof CancellationException)) {
+            // it's impossible to brake game thread in normal use case, so each bad use case must be researched
+            logger.error("Catch unhandled error in GAME thread: " + t.getMessage(), t);
+        }
     }
 
     static class CachedThreadPoolWithException extends ThreadPoolExecutor {
@@ -95,13 +158,22 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         @Override
         protected void afterExecute(Runnable r, Throwable t) {
             super.afterExecute(r, t);
+            logGameThreadError(r, t);
+        }
+    }
 
-            // catch errors in GAME threads (from game processing)
-            t = ThreadUtils.findRunnableException(r, t);
-            if (t != null && !(t instanceof CancellationException)) {
-                // it's impossible to brake game thread in normal use case, so each bad use case must be researched
-                logger.error("Catch unhandled error in GAME thread: " + t.getMessage(), t);
-            }
+    static class VirtualThreadPoolWithException extends ThreadPoolExecutor {
+
+        VirtualThreadPoolWithException(ThreadFactory virtualThreadFactory) {
+            // new thread per task without reuse (virtual threads are cheap and must not be pooled),
+            // executor used for active threads stats and errors logs only
+            super(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), virtualThreadFactory);
+        }
+
+        @Override
+        protected void afterExecute(Runnable r, Throwable t) {
+            super.afterExecute(r, t);
+            logGameThreadError(r, t);
         }
     }
 
@@ -123,6 +195,11 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         return tourneyExecutor;
     }
 
+    @Override
+    public ExecutorService getCallbackSenderExecutor() {
+        return callbackSenderExecutor;
+    }
+
     @Override
     public ExecutorService getGameExecutor() {
         return gameExecutor;
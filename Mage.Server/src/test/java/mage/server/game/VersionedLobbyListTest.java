@@ -0,0 +1,149 @@
+package mage.server.game;
+
+import mage.view.LobbyDeltaView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VersionedLobbyListTest {
+
+    private static final UUID ID_1 = UUID.randomUUID();
+    private static final UUID ID_2 = UUID.randomUUID();
+    private static final UUID ID_3 = UUID.randomUUID();
+
+    @Test
+    @DisplayName("should send full snapshot for new client")
+    void fullSnapshot() {
+        VersionedLobbyList<Item> list = new VersionedLobbyList<>(Item::getId);
+        list.update(Arrays.asList(new Item(ID_1, "a"), new Item(ID_2, "b")));
+
+        LobbyDeltaView<Item> delta = list.getDelta(null, 0);
+        assertThat(delta.isFullSnapshot()).isTrue();
+        assertThat(delta.getChanged()).hasSize(2);
+        assertThat(delta.getVersion()).isEqualTo(list.getVersion());
+    }
+
+    @Test
+    @DisplayName("should keep version and send nothing without changes")
+    void noChanges() {
+        VersionedLobbyList<Item> list = new VersionedLobbyList<>(Item::getId);
+        list.update(Arrays.asList(new Item(ID_1, "a"), new Item(ID_2, "b")));
+        long version = list.getVersion();
+
+        // rebuilt views with same content
+        list.update(Arrays.asList(new Item(ID_1, "a"), new Item(ID_2, "b")));
+        assertThat(list.getVersion()).isEqualTo(version);
+        assertThat(list.getDelta(list.getEpoch(), version).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should send added, updated and removed items only")
+    void changes() {
+        VersionedLobbyList<Item> list = new VersionedLobbyList<>(Item::getId);
+        list.update(Arrays.asList(new Item(ID_1, "a"), new Item(ID_2, "b")));
+        Map<UUID, Item> client = new LinkedHashMap<>();
+        LobbyDeltaView<Item> delta = list.getDelta(null, 0);
+        delta.applyTo(client, Item::getId);
+        long clientVersion = delta.getVersion();
+
+        list.update(Arrays.asList(new Item(ID_2, "b2"), new Item(ID_3, "c")));
+        delta = list.getDelta(list.getEpoch(), clientVersion);
+        assertThat(delta.isFullSnapshot()).isFalse();
+        assertThat(delta.getChanged()).extracting(Item::getValue).containsExactly("b2", "c");
+        assertThat(delta.getRemoved()).containsExactly(ID_1);
+
+        delta.applyTo(client, Item::getId);
+        assertThat(client.values()).extracting(Item::getValue).containsExactlyInAnyOrder("b2", "c");
+        assertThat(list.getDelta(list.getEpoch(), delta.getVersion()).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should send full snapshot for unknown version")
+    void unknownVersion() {
+        VersionedLobbyList<Item> list = new VersionedLobbyList<>(Item::getId);
+        list.update(Collections.singletonList(new Item(ID_1, "a")));
+
+        // example: client's version from the server before restart
+        assertThat(list.getDelta(list.getEpoch(), list.getVersion() + 100).isFullSnapshot()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should send full snapshot for another epoch")
+    void anotherEpoch() {
+        VersionedLobbyList<Item> oldList = new VersionedLobbyList<>(Item::getId);
+        oldList.update(Collections.singletonList(new Item(ID_1, "a")));
+        oldList.update(Arrays.asList(new Item(ID_1, "a"), new Item(ID_2, "b")));
+        long clientVersion = oldList.getVersion();
+
+        // example: server restart with same or bigger version than client's version
+        VersionedLobbyList<Item> list = new VersionedLobbyList<>(Item::getId);
+        list.update(Collections.singletonList(new Item(ID_3, "c")));
+        list.update(Arrays.asList(new Item(ID_3, "c"), new Item(ID_2, "b")));
+        list.update(Collections.singletonList(new Item(ID_2, "b")));
+        assertThat(list.getVersion()).isGreaterThanOrEqualTo(clientVersion);
+
+        LobbyDeltaView<Item> delta = list.getDelta(oldList.getEpoch(), clientVersion);
+        assertThat(delta.isFullSnapshot()).isTrue();
+        assertThat(delta.getEpoch()).isEqualTo(list.getEpoch());
+        assertThat(delta.getChanged()).extracting(Item::getValue).containsExactly("b");
+    }
+
+    @Test
+    @DisplayName("should send full snapshot if removed items history was lost")
+    void lostHistory() {
+        VersionedLobbyList<Item> list = new VersionedLobbyList<>(Item::getId);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            items.add(new Item(UUID.randomUUID(), "item " + i));
+        }
+        list.update(items);
+        long clientVersion = list.getVersion();
+
+        // remove one by one
+        for (int i = 0; i < items.size(); i++) {
+            list.update(items.subList(i + 1, items.size()));
+        }
+        assertThat(list.getDelta(list.getEpoch(), clientVersion).isFullSnapshot()).isTrue();
+        assertThat(list.getDelta(list.getEpoch(), list.getVersion() - 1).isFullSnapshot()).isFalse();
+    }
+
+    private static class Item implements Serializable {
+
+        private final UUID id;
+        private final String value;
+
+        Item(UUID id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        UUID getId() {
+            return id;
+        }
+
+        String getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Item item = (Item) o;
+            return id.equals(item.id) && value.equals(item.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package org.mage.test.performance;
 
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
+import mage.game.GameState;
+import mage.game.GameStates;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.mage.test.serverside.base.CardTestPlayerBase;
@@ -29,4 +31,40 @@ public class StateCopying extends CardTestPlayerBase {
             currentGame.getBattlefield().reset(currentGame);
         }
     }
+
+    @Test
+    @Ignore
+    public void copyingStateSnapshots() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Sapphire Medallion", 10);
+        addCard(Zone.EXILED, playerA, "Grizzly Bears", 20);
+        addCard(Zone.EXILED, playerB, "Grizzly Bears", 20);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        // compare full copy (old) and structural sharing (new) modes of game history
+        GameState state = currentGame.getState();
+        for (boolean structuralSharing : new boolean[]{false, true}) {
+            System.gc();
+            long memBefore = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+            long timeBefore = System.currentTimeMillis();
+
+            GameStates states = new GameStates(structuralSharing);
+            for (int i = 0; i < 1000; i++) {
+                states.save(state);
+            }
+
+            long timeAfter = System.currentTimeMillis();
+            System.gc();
+            long memAfter = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+            System.out.println(String.format("%s: %d states, %d ms, %d KB retained",
+                    structuralSharing ? "structural sharing" : "full copy",
+                    states.getSize(),
+                    timeAfter - timeBefore,
+                    (memAfter - memBefore) / 1024
+            ));
+        }
+    }
 }
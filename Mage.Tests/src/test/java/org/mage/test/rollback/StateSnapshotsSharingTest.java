@@ -0,0 +1,213 @@
+package org.mage.test.rollback;
+
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.game.GameStates;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Game history can share unchanged parts (exile, zones, zone change counters, cards state, permanents, effects, etc)
+ * between saved states, so restore and next changes of the live state must never corrupt other saved states.
+ * Results must be same as in full copy mode.
+ */
+public class StateSnapshotsSharingTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_RestoreAfterSharedCollectionsChanged_StructuralSharing() {
+        runRestoreAfterSharedCollectionsChanged(true);
+    }
+
+    @Test
+    public void test_RestoreAfterSharedCollectionsChanged_FullCopy() {
+        runRestoreAfterSharedCollectionsChanged(false);
+    }
+
+    @Test
+    public void test_SharedSnapshotsMustRetainLessMemory() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Island", 10);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 3);
+        addCard(Zone.EXILED, playerB, "Grizzly Bears", 5);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+        getGameView(playerA); // fill cards state like real game updates
+
+        int statesCount = 20;
+        long fullCopySize = 0;
+        long sharingSize = 0;
+        for (boolean structuralSharing : new boolean[]{false, true}) {
+            GameStates states = new GameStates(structuralSharing);
+            for (int i = 0; i < statesCount; i++) {
+                currentGame.getState().setTurnNum(10 + i); // small changes between saved states
+                states.save(currentGame.getState());
+            }
+            for (int i = 0; i < statesCount; i++) {
+                Assert.assertEquals(10 + i, states.get(i).getTurnNum());
+                Assert.assertEquals(30, states.get(i).getBattlefield().getAllPermanents().size());
+                Assert.assertEquals(5, states.get(i).getExile().getPermanentExile().size());
+            }
+
+            long size = calcRetainedSize(states);
+            if (structuralSharing) {
+                sharingSize = size;
+            } else {
+                fullCopySize = size;
+            }
+        }
+        // only players, turn, combat and other small parts are copied for each state
+        Assert.assertTrue("game history with shared snapshots must retain 3x less memory than full copies: "
+                + sharingSize + " vs " + fullCopySize, sharingSize * 3 < fullCopySize);
+    }
+
+    private void runRestoreAfterSharedCollectionsChanged(boolean structuralSharing) {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.EXILED, playerA, "Grizzly Bears", 3);
+
+        currentGame.loadGameStates(new GameStates(structuralSharing));
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        UUID mountainId = getPermanent("Mountain", playerA).getId();
+        List<Card> exiledCards = new ArrayList<>(currentGame.getExile().getAllCards(currentGame));
+        Assert.assertEquals(3, exiledCards.size());
+        UUID firstCardId = exiledCards.get(0).getId();
+        UUID secondCardId = exiledCards.get(1).getId();
+        int firstCardCounter = currentGame.getState().getZoneChangeCounter(firstCardId);
+        int secondCardCounter = currentGame.getState().getZoneChangeCounter(secondCardId);
+
+        // nothing changed between bookmarks, so second state shares collections with first
+        int bookmarkFirst = currentGame.bookmarkState();
+        int bookmarkSecond = currentGame.bookmarkState();
+        GameStates states = currentGame.getGameStates();
+        GameState savedFirst = states.get(states.getSize() - 2);
+        GameState savedSecond = states.get(states.getSize() - 1);
+        Assert.assertEquals(structuralSharing, savedSecond.isSharedSnapshot());
+        Assert.assertEquals(structuralSharing, savedFirst.getExile() == savedSecond.getExile());
+        Assert.assertEquals(structuralSharing, savedFirst.getBattlefield().getPermanent(mountainId)
+                == savedSecond.getBattlefield().getPermanent(mountainId));
+
+        // change shared collections in live state: exile, zones, zone change counters and permanents
+        playerA.moveCards(exiledCards.get(0), Zone.HAND, null, currentGame);
+        currentGame.getPermanent(mountainId).setTapped(true);
+        Assert.assertEquals(Zone.HAND, currentGame.getState().getZone(firstCardId));
+        Assert.assertEquals(2, currentGame.getExile().getAllCards(currentGame).size());
+        assertSavedState(savedFirst, firstCardId, firstCardCounter);
+        assertSavedState(savedSecond, firstCardId, firstCardCounter);
+        Assert.assertFalse(savedFirst.getBattlefield().getPermanent(mountainId).isTapped());
+        Assert.assertFalse(savedSecond.getBattlefield().getPermanent(mountainId).isTapped());
+
+        // restore second (shared) state
+        Assert.assertNotNull(currentGame.restoreState(bookmarkSecond, "test"));
+        assertLiveState(firstCardId, firstCardCounter, secondCardId, secondCardCounter);
+        Assert.assertFalse(currentGame.getPermanent(mountainId).isTapped());
+
+        // change live state after restore - it must use own collections
+        playerA.moveCards(currentGame.getCard(secondCardId), Zone.HAND, null, currentGame);
+        currentGame.getPermanent(mountainId).setTapped(true);
+        Assert.assertEquals(Zone.HAND, currentGame.getState().getZone(secondCardId));
+        Assert.assertEquals(2, currentGame.getExile().getAllCards(currentGame).size());
+        assertSavedState(savedFirst, secondCardId, secondCardCounter);
+        Assert.assertFalse(savedFirst.getBattlefield().getPermanent(mountainId).isTapped());
+
+        // restore first state
+        Assert.assertNotNull(currentGame.restoreState(bookmarkFirst, "test"));
+        assertLiveState(firstCardId, firstCardCounter, secondCardId, secondCardCounter);
+        Assert.assertFalse(currentGame.getPermanent(mountainId).isTapped());
+    }
+
+    private void assertSavedState(GameState savedState, UUID cardId, int zoneChangeCounter) {
+        Assert.assertEquals("saved state must keep exiled cards", 3, savedState.getExile().getPermanentExile().size());
+        Assert.assertTrue(savedState.getExile().getPermanentExile().contains(cardId));
+        Assert.assertEquals(Zone.EXILED, savedState.getZone(cardId));
+        Assert.assertEquals(zoneChangeCounter, savedState.getZoneChangeCounter(cardId));
+    }
+
+    private void assertLiveState(UUID firstCardId, int firstCardCounter, UUID secondCardId, int secondCardCounter) {
+        Assert.assertEquals("restored state must have all exiled cards", 3, currentGame.getExile().getAllCards(currentGame).size());
+        Assert.assertEquals(Zone.EXILED, currentGame.getState().getZone(firstCardId));
+        Assert.assertEquals(Zone.EXILED, currentGame.getState().getZone(secondCardId));
+        Assert.assertEquals(firstCardCounter, currentGame.getState().getZoneChangeCounter(firstCardId));
+        Assert.assertEquals(secondCardCounter, currentGame.getState().getZoneChangeCounter(secondCardId));
+        assertHandCount(playerA, "Grizzly Bears", 0);
+    }
+
+    /**
+     * Approximate retained size of the objects graph, each object counted one time (so shared parts counted one time too)
+     */
+    private static long calcRetainedSize(Object root) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> queue = new ArrayDeque<>();
+        queue.add(root);
+        long size = 0;
+        while (!queue.isEmpty()) {
+            Object obj = queue.poll();
+            if (obj instanceof Enum || obj instanceof Class || !visited.add(obj)) {
+                continue;
+            }
+            Class<?> clazz = obj.getClass();
+            if (clazz.isArray()) {
+                int length = Array.getLength(obj);
+                size += 16 + length * 8L;
+                if (!clazz.getComponentType().isPrimitive()) {
+                    for (int i = 0; i < length; i++) {
+                        addToQueue(queue, Array.get(obj, i));
+                    }
+                }
+                continue;
+            }
+
+            // java collections: size by entries only
+            if (obj instanceof Map) {
+                size += 48 + ((Map<?, ?>) obj).size() * 32L;
+                ((Map<?, ?>) obj).forEach((key, value) -> {
+                    addToQueue(queue, key);
+                    addToQueue(queue, value);
+                });
+            } else if (obj instanceof Collection) {
+                size += 32 + ((Collection<?>) obj).size() * 16L;
+                ((Collection<?>) obj).forEach(value -> addToQueue(queue, value));
+            } else if (clazz.getName().startsWith("java.")) {
+                size += 24; // strings, ids, numbers, etc
+            }
+
+            // own classes: fields
+            for (Class<?> current = clazz; current != null && !current.getName().startsWith("java."); current = current.getSuperclass()) {
+                size += 16;
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    size += 8;
+                    if (field.getType().isPrimitive()) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        addToQueue(queue, field.get(obj));
+                    } catch (Exception ignore) {
+                        // inaccessible field - ignore it
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    private static void addToQueue(Deque<Object> queue, Object obj) {
+        if (obj != null) {
+            queue.add(obj);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.StaticFilters;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Battlefield queries by controller must follow control changes
+ */
+public class BattlefieldControllerIndexTest extends CardTestPlayerBase {
+
+    private void assertControlledCreatures(int turnNum, PhaseStep step, int needA, int needB) {
+        runCode("check controlled creatures", turnNum, step, playerA, (info, player, game) -> {
+            Assert.assertEquals(info + " - player A", needA, game.getBattlefield().countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), game));
+            Assert.assertEquals(info + " - player B", needB, game.getBattlefield().countAll(StaticFilters.FILTER_PERMANENT_CREATURE, playerB.getId(), game));
+            Assert.assertEquals(info + " - player A list", needA, game.getBattlefield().getAllActivePermanents(StaticFilters.FILTER_PERMANENT_CREATURE, playerA.getId(), game).size());
+            Assert.assertEquals(info + " - player B list", needB, game.getBattlefield().getAllActivePermanents(StaticFilters.FILTER_PERMANENT_CREATURE, playerB.getId(), game).size());
+        });
+    }
+
+    @Test
+    public void test_ControlChange() {
+        // Gain control of target creature until end of turn. Untap that creature. It gains haste until end of turn.
+        addCard(Zone.HAND, playerA, "Act of Treason"); // {2}{R}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Balduvian Bears", 2);
+
+        assertControlledCreatures(1, PhaseStep.UPKEEP, 1, 2);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Act of Treason", "Balduvian Bears");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        assertControlledCreatures(1, PhaseStep.PRECOMBAT_MAIN, 2, 1);
+
+        // control returns on end of turn
+        assertControlledCreatures(2, PhaseStep.PRECOMBAT_MAIN, 1, 2);
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+    }
+}
@@ -0,0 +1,75 @@
+package org.mage.test.serverside;
+
+import mage.abilities.Ability;
+import mage.cards.Card;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Cards created from prototypes must be independent objects with own ids
+ */
+public class CardPrototypesTest extends CardTestPlayerBase {
+
+    private void assertIndependentCards(String cardName) {
+        CardInfo cardInfo = CardRepository.instance.findCard(cardName);
+        Assert.assertNotNull(cardName + " must exist", cardInfo);
+
+        Set<UUID> usedIds = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            Card card = cardInfo.createCard();
+            Assert.assertNotNull(card);
+            Assert.assertEquals(cardName, card.getName());
+            Assert.assertTrue("card must have new id", usedIds.add(card.getId()));
+            for (Ability ability : card.getAbilities()) {
+                Assert.assertEquals("ability must use card's id as source", card.getId(), ability.getSourceId());
+                Assert.assertTrue("ability must have new id", usedIds.add(ability.getId()));
+            }
+            if (card.getSecondCardFace() != null) {
+                Assert.assertTrue("second side must have new id", usedIds.add(card.getSecondCardFace().getId()));
+            }
+        }
+    }
+
+    @Test
+    public void test_NormalCard() {
+        assertIndependentCards("Grizzly Bears");
+        assertIndependentCards("Lightning Bolt");
+    }
+
+    @Test
+    public void test_TransformCard() {
+        assertIndependentCards("Delver of Secrets");
+    }
+
+    @Test
+    public void test_SplitCard() {
+        assertIndependentCards("Armed // Dangerous");
+    }
+
+    @Test
+    public void test_CardsInGame() {
+        // same card from same set must be usable multiple times
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 2);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerB, 20 - 3 * 2);
+        assertGraveyardCount(playerA, "Lightning Bolt", 2);
+    }
+}
@@ -0,0 +1,67 @@
+package org.mage.test.serverside;
+
+import mage.ObjectColor;
+import mage.constants.CardType;
+import mage.constants.PhaseStep;
+import mage.constants.SubType;
+import mage.constants.Zone;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Layered effects must be reloaded between layers only if something was applied
+ */
+public class LayeredEffectsReloadTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_SkipReloadWithoutLayerEffects() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 1);
+
+        runCode("check reloads", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            int reloads = game.getContinuousEffects().getLayeredEffectsReloadCounter();
+            int skips = game.getContinuousEffects().getLayeredEffectsReloadSkipCounter();
+            game.applyEffects();
+            Assert.assertEquals(info + " - no layer effects, reloads must be skipped", reloads, game.getContinuousEffects().getLayeredEffectsReloadCounter());
+            Assert.assertEquals(info + " - skipped reloads for layers 3-5", skips + 3, game.getContinuousEffects().getLayeredEffectsReloadSkipCounter());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertPowerToughness(playerA, "Grizzly Bears", 2, 2);
+    }
+
+    @Test
+    public void test_ReloadAfterTypeAndColorEffects() {
+        // Nonbasic lands are Mountains.
+        addCard(Zone.BATTLEFIELD, playerA, "Blood Moon", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Urborg, Tomb of Yawgmoth", 1);
+        //
+        // As Painter's Servant enters the battlefield, choose a color.
+        // All cards that aren't on the battlefield, spells, and permanents are the chosen color in addition to their other colors.
+        addCard(Zone.HAND, playerA, "Painter's Servant", 1); // {2}
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 2);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Painter's Servant");
+        setChoice(playerA, "Blue");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+
+        runCode("check reloads", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            int reloads = game.getContinuousEffects().getLayeredEffectsReloadCounter();
+            game.applyEffects();
+            Assert.assertTrue(info + " - type and color effects must reload the list", game.getContinuousEffects().getLayeredEffectsReloadCounter() > reloads);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertType("Urborg, Tomb of Yawgmoth", CardType.LAND, SubType.MOUNTAIN);
+        assertColor(playerA, "Grizzly Bears", ObjectColor.BLUE, true);
+        assertColor(playerA, "Grizzly Bears", ObjectColor.GREEN, true);
+    }
+}
@@ -0,0 +1,70 @@
+package org.mage.test.serverside;
+
+import mage.abilities.ActivatedAbility;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+
+/**
+ * Playable abilities must be calculated again after any game state changes
+ */
+public class PlayableAbilitiesCacheTest extends CardTestPlayerBase {
+
+    private long countPlayable(Game game, Player player, String abilityStartText) {
+        return player.getPlayable(game, true).stream()
+                .filter(ability -> ability.toString().startsWith(abilityStartText))
+                .count();
+    }
+
+    @Test
+    public void test_SameStateMustReturnIndependentCopies() {
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+
+        runCode("check cache", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            long stateVersion = game.getState().getStateVersion();
+            List<ActivatedAbility> first = player.getPlayable(game, true);
+            List<ActivatedAbility> second = player.getPlayable(game, true);
+            Assert.assertEquals(info + " - playable calculation must not change the state", stateVersion, game.getState().getStateVersion());
+            Assert.assertEquals(info + " - same state must have same playable", first.size(), second.size());
+            for (int i = 0; i < first.size(); i++) {
+                Assert.assertEquals(info + " - same ability", first.get(i).getId(), second.get(i).getId());
+                Assert.assertNotSame(info + " - abilities must be copied", first.get(i), second.get(i));
+            }
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_StateChangesMustResetCache() {
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+
+        runCode("before cast", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertEquals(info, 1, countPlayable(game, player, "Cast Lightning Bolt"));
+            Assert.assertEquals(info + " - from cache", 1, countPlayable(game, player, "Cast Lightning Bolt"));
+        });
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+
+        runCode("after cast", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertEquals(info, 0, countPlayable(game, player, "Cast Lightning Bolt"));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertLife(playerB, 20 - 3);
+    }
+}
@@ -2,10 +2,12 @@ package org.mage.test.serverside.deck;
 
 import mage.cards.decks.DeckValidator;
 import mage.deck.Commander;
+import mage.deck.HistoricalType2;
 import mage.deck.Limited;
 import mage.deck.Modern;
 import mage.deck.Legacy;
 import mage.deck.Standard;
+import mage.deck.SuperType2;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mage.test.serverside.base.MageTestPlayerBase;
@@ -77,6 +79,24 @@ public class DeckValidatorTest extends MageTestPlayerBase {
         deckTester.validate("only 4 of a card are allowed", false);
     }
 
+    @Test
+    public void testHistoricalType2SameSizeWindows() {
+        // two-year windows refill set codes on each check, and many windows have same sets amount
+        // (e.g. 2011-2013 and 2012-2014), so legal sets must be searched by actual window only
+        DeckTester deckTester = new DeckTester(new HistoricalType2());
+        deckTester.addMaindeck("Courser of Kruphix", 4); // BNG
+        deckTester.addMaindeck("Forest", 56);
+        deckTester.validate("Courser of Kruphix is legal in 2012-2014 window");
+    }
+
+    @Test
+    public void testSuperType2SameSizeWindows() {
+        DeckTester deckTester = new DeckTester(new SuperType2());
+        deckTester.addMaindeck("Courser of Kruphix", 4); // BNG
+        deckTester.addMaindeck("Forest", 56);
+        deckTester.validate("Courser of Kruphix is legal in 2012-2014 window");
+    }
+
     private void assertCounterspellValid(ArrayList<DeckValidationUtil.CardNameAmount> deckList) {
         final boolean needValid = true; // card valid after Modern Horizons 2
         boolean valid = testDeckValid(new Modern(), deckList);
@@ -0,0 +1,136 @@
+package org.mage.test.serverside.performance;
+
+import mage.ObjectColor;
+import mage.constants.PhaseStep;
+import mage.constants.SubType;
+import mage.constants.TargetController;
+import mage.constants.Zone;
+import mage.filter.FilterPermanent;
+import mage.filter.StaticFilters;
+import mage.filter.common.FilterCreaturePermanent;
+import mage.filter.predicate.ObjectSourcePlayer;
+import mage.filter.predicate.Predicate;
+import mage.filter.predicate.Predicates;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Microbenchmark for filter checks over a big battlefield
+ */
+public class FilterPerformanceTest extends CardTestPlayerBase {
+
+    private static final int PERMANENTS_PER_CARD = 50;
+    private static final int ITERATIONS = 2000;
+
+    private void prepareBigBattlefield() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", PERMANENTS_PER_CARD); // green bear
+        addCard(Zone.BATTLEFIELD, playerA, "Raging Goblin", PERMANENTS_PER_CARD); // red goblin
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", PERMANENTS_PER_CARD);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", PERMANENTS_PER_CARD);
+        addCard(Zone.BATTLEFIELD, playerB, "Island", PERMANENTS_PER_CARD);
+        addCard(Zone.BATTLEFIELD, playerB, "Ornithopter", PERMANENTS_PER_CARD); // colorless artifact creature
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    private FilterPermanent makeComplexFilter() {
+        // cheap checks added last to show the compiled order
+        FilterCreaturePermanent filter = new FilterCreaturePermanent("untapped green Bear you control");
+        filter.add(TappedPredicate.UNTAPPED);
+        filter.add(SubType.BEAR.getPredicate());
+        filter.add(new ColorPredicate(ObjectColor.GREEN));
+        filter.add(TargetController.YOU.getControllerPredicate());
+        return filter;
+    }
+
+    private int countByFilter(FilterPermanent filter, List<Permanent> permanents) {
+        int count = 0;
+        for (Permanent permanent : permanents) {
+            if (filter.match(permanent, playerA.getId(), null, currentGame)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int countByUncompiledFilter(FilterPermanent filter, List<Permanent> permanents) {
+        // old style: composite predicate and stream on each check
+        List<Predicate> extraPredicates = filter.getExtraPredicates();
+        int count = 0;
+        for (Permanent permanent : permanents) {
+            ObjectSourcePlayer<Permanent> osp = new ObjectSourcePlayer<>(permanent, playerA.getId(), null);
+            if (filter.checkObjectClass(permanent)
+                    && Predicates.and(filter.getPredicates()).apply(permanent, currentGame)
+                    && permanent.isPhasedIn()
+                    && extraPredicates.stream().allMatch(p -> p.apply(osp, currentGame))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void test_CompiledFilterMustFindSamePermanents() {
+        prepareBigBattlefield();
+
+        List<Permanent> permanents = new ArrayList<>(currentGame.getBattlefield().getAllPermanents());
+        Assert.assertEquals(PERMANENTS_PER_CARD * 6, permanents.size());
+
+        FilterPermanent filter = makeComplexFilter();
+        Assert.assertEquals(PERMANENTS_PER_CARD, countByFilter(filter, permanents));
+        Assert.assertEquals(countByUncompiledFilter(filter, permanents), countByFilter(filter, permanents));
+
+        // copy must use same predicates
+        Assert.assertEquals(PERMANENTS_PER_CARD, countByFilter(filter.copy(), permanents));
+
+        // changed filter must use new predicates
+        FilterPermanent changedFilter = filter.copy();
+        changedFilter.add(Predicates.not(SubType.BEAR.getPredicate()));
+        Assert.assertEquals(0, countByFilter(changedFilter, permanents));
+
+        Assert.assertEquals(PERMANENTS_PER_CARD * 4, countByFilter(StaticFilters.FILTER_PERMANENT_CREATURE, permanents));
+    }
+
+    @Test
+    @Ignore // TODO: enable to compare filter performance
+    public void test_FilterMatchBenchmark() {
+        prepareBigBattlefield();
+
+        List<Permanent> permanents = new ArrayList<>(currentGame.getBattlefield().getAllPermanents());
+        FilterPermanent complexFilter = makeComplexFilter();
+        FilterPermanent staticFilter = StaticFilters.FILTER_PERMANENT_CREATURE;
+
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                countByUncompiledFilter(complexFilter, permanents);
+                countByUncompiledFilter(staticFilter, permanents);
+            }
+            long uncompiledTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                countByFilter(complexFilter, permanents);
+                countByFilter(staticFilter, permanents);
+            }
+            long compiledTime = System.nanoTime() - start;
+
+            System.out.println(String.format("run %d, %d permanents: uncompiled %d ms, compiled %d ms",
+                    run + 1,
+                    permanents.size(),
+                    uncompiledTime / 1000000,
+                    compiledTime / 1000000
+            ));
+        }
+    }
+}
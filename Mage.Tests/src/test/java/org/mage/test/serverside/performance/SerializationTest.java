@@ -15,6 +15,8 @@ import mage.counters.CounterType;
 import mage.game.mulligan.LondonMulligan;
 import mage.game.permanent.PermanentCard;
 import mage.game.permanent.PermanentImpl;
+import mage.remote.traffic.TrafficCodec;
+import mage.remote.traffic.TrafficCodecs;
 import mage.remote.traffic.ZippedObjectImpl;
 import mage.util.CardUtil;
 import mage.utils.CompressUtil;
@@ -175,6 +177,105 @@ public class SerializationTest extends CardTestPlayerBase {
         Assert.assertEquals("Must be same", 1, uncompressed.getPlayers().get(0).getBattlefield().size());
     }
 
+    @Test
+    public void test_Game_TrafficCodecs() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 3);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 2);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        GameView gameView = getGameView(playerA);
+        for (String codecName : Arrays.asList("gzip", "dictionary")) {
+            TrafficCodec codec = TrafficCodecs.get(codecName);
+            ZippedObjectImpl<GameView> compressed = new ZippedObjectImpl<>(gameView, codec);
+            GameView uncompressed = compressed.unzip();
+            Assert.assertNotNull("Must decode " + codecName, uncompressed);
+            Assert.assertEquals("Must be same for " + codecName, 3, uncompressed.getPlayers().get(0).getBattlefield().size());
+            Assert.assertEquals("Must be same for " + codecName, 2, uncompressed.getMyHand().size());
+        }
+    }
+
+    @Test
+    public void test_Game_TrafficCodecsMustFailOnAnotherVersion() {
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        // data from another client/server version (e.g. different dictionary)
+        TrafficCodec codec = TrafficCodecs.get("dictionary");
+        TrafficCodec anotherVersionCodec = new TrafficCodec() {
+            @Override
+            public byte getId() {
+                return codec.getId();
+            }
+
+            @Override
+            public String getName() {
+                return codec.getName();
+            }
+
+            @Override
+            public int getVersion() {
+                return codec.getVersion() + 1;
+            }
+
+            @Override
+            public byte[] encode(Object object) throws IOException {
+                return codec.encode(object);
+            }
+
+            @Override
+            public Object decode(byte[] data) throws IOException, ClassNotFoundException {
+                return codec.decode(data);
+            }
+        };
+
+        ZippedObjectImpl<GameView> compressed = new ZippedObjectImpl<>(getGameView(playerA), anotherVersionCodec);
+        try {
+            compressed.unzip();
+            Assert.fail("Must fail on data with another codec version");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("another client/server version"));
+        }
+    }
+
+    @Test
+    @Ignore // TODO: enable to compare traffic codecs
+    public void test_Game_TrafficCodecsBenchmark() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 20);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Island", 10);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 5);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        GameView gameView = getGameView(playerA);
+        int iterations = 1000;
+        for (String codecName : Arrays.asList("gzip", "dictionary", "gzip", "dictionary")) {
+            TrafficCodec codec = TrafficCodecs.get(codecName);
+            long size = 0;
+            long encodeTime = 0;
+            long decodeTime = 0;
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                ZippedObjectImpl<GameView> compressed = new ZippedObjectImpl<>(gameView, codec);
+                long encoded = System.nanoTime();
+                compressed.unzip();
+                long decoded = System.nanoTime();
+                size = compressed.getDataSize();
+                encodeTime += encoded - start;
+                decodeTime += decoded - encoded;
+            }
+            System.out.println(String.format("%s: %d bytes, encode %.3f ms, decode %.3f ms",
+                    codecName,
+                    size,
+                    encodeTime / 1000000.0 / iterations,
+                    decodeTime / 1000000.0 / iterations
+            ));
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void test_Choices_MustHaveProtectionFromKeySetUsage() {
         Map<String, Ability> abilityMap = new HashMap<>();
@@ -270,6 +270,16 @@ public class SwissPairingMinimalWeightMatchingTest {
         }
     }
 
+    @Test
+    public void SimulateBigTournaments() {
+        // blossom matching must be fast for big tourneys
+        long start = System.currentTimeMillis();
+        SimulateTournament(256, 8);
+        SimulateTournament(255, 8);
+        long time = System.currentTimeMillis() - start;
+        Assert.assertTrue("Swiss pairing for 256 players is too slow: " + time + " ms", time < 30 * 1000);
+    }
+
     private void SimulateTournament(int playersCount, int roundsCount) {
 
         List<TournamentPlayer> players = new ArrayList<>();
@@ -0,0 +1,69 @@
+package org.mage.test.utils;
+
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardPrintingsIndex;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.Rarity;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Card printings index must find same printings as CardRepository.findCards (it used by deck validation before)
+ */
+public class CardPrintingsIndexTest {
+
+    @Before
+    public void setUp() {
+        CardScanner.scan();
+    }
+
+    @Test
+    public void test_SamePrintingsAsRepository() {
+        List<String> names = Arrays.asList(
+                "Lightning Bolt",
+                "Black Lotus",
+                // Modal double-faced
+                "Malakir Rebirth // Malakir Mire", "Malakir Rebirth", "Malakir Mire",
+                // Transform double-faced
+                "Brutal Cathar // Moonrage Brute", "Brutal Cathar", "Moonrage Brute",
+                // Split
+                "Alive // Well", "Alive", "Well", "Fire // Ice", "Fire", "Ice",
+                // Flip
+                "Rune-Tail, Kitsune Ascendant // Rune-Tail's Essence", "Rune-Tail, Kitsune Ascendant", "Rune-Tail's Essence",
+                // Adventure
+                "Ardenvale Tactician // Dizzying Swoop", "Ardenvale Tactician", "Dizzying Swoop"
+        );
+        CardPrintingsIndex index = CardPrintingsIndex.getInstance();
+        for (String name : names) {
+            List<CardInfo> cards = CardRepository.instance.findCards(name);
+            Assert.assertFalse("must find " + name + " in repository", cards.isEmpty());
+            Assert.assertTrue("must find " + name + " in index", index.isPrinted(name));
+            for (CardInfo card : cards) {
+                Assert.assertTrue("must find " + name + " printing in " + card.getSetCode(),
+                        index.isPrintedInSets(name, index.makeSetsMask(Collections.singletonList(card.getSetCode()))));
+                Assert.assertTrue("must find " + name + " printing at " + card.getRarity(),
+                        index.isPrintedAtRarities(name, Collections.singletonList(card.getRarity())));
+            }
+        }
+    }
+
+    @Test
+    public void test_UnknownCards() {
+        CardPrintingsIndex index = CardPrintingsIndex.getInstance();
+        Assert.assertFalse(index.isPrinted("Unknown card name"));
+        Assert.assertFalse(index.isPrintedAtRarities("Unknown card name", Arrays.asList(Rarity.values())));
+        Assert.assertFalse(index.isPrintedInSets("Black Lotus", index.makeSetsMask(Collections.singletonList("unknown set code"))));
+        Assert.assertFalse(index.isPrintedInSets("Black Lotus", index.makeSetsMask(Collections.singletonList("M10"))));
+    }
+
+    @Test
+    public void test_SameIndexWithoutDbChanges() {
+        Assert.assertSame(CardPrintingsIndex.getInstance(), CardPrintingsIndex.getInstance());
+    }
+}
@@ -1,5 +1,7 @@
 package org.mage.test.utils;
 
+import mage.Mana;
+import mage.abilities.costs.mana.ManaCostsImpl;
 import mage.abilities.mana.ManaOptions;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
@@ -626,4 +628,90 @@ public class ManaOptionsTest extends CardTestPlayerBase {
 
         ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
     }
+
+    /**
+     * Tri-lands in 5-color decks can generate thousands of mana variations,
+     * so it must be fast without losing payable costs or adding non-payable ones
+     */
+    @Test
+    public void testManyColorSourcesMustBeExact() {
+        int n = 4;
+        addCard(Zone.BATTLEFIELD, playerA, "Arcane Sanctum", n); // W U B
+        addCard(Zone.BATTLEFIELD, playerA, "Crumbling Necropolis", n); // U B R
+        addCard(Zone.BATTLEFIELD, playerA, "Jungle Shrine", n); // R G W
+        addCard(Zone.BATTLEFIELD, playerA, "Savage Lands", n); // B R G
+        addCard(Zone.BATTLEFIELD, playerA, "Seaside Citadel", n); // G W U
+
+        setStopAt(1, PhaseStep.UPKEEP);
+        execute();
+
+        ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
+        // all possible colors combinations from 20 lands without duplicates
+        Assert.assertEquals("mana variations don't match", 8251, manaOptions.size());
+        for (Mana mana : manaOptions) {
+            Assert.assertEquals("each variation must use all lands: " + mana, 5 * n, mana.count());
+        }
+        Assert.assertTrue(manaOptions.enough(new ManaCostsImpl<>("{W}{W}{U}{U}{B}{B}{R}{R}{G}{G}").getMana()));
+        Assert.assertTrue(manaOptions.enough(new ManaCostsImpl<>("{W}{W}{W}{W}{W}{W}{W}{W}{W}{W}{W}{W}").getMana()));
+        Assert.assertTrue(manaOptions.enough(new ManaCostsImpl<>("{15}{G}{G}{G}{G}{G}").getMana()));
+
+        // many symbols of two colors: {W} from Jungle Shrine and Arcane Sanctum, {U} from Crumbling Necropolis and Seaside Citadel
+        Assert.assertTrue(manaOptions.enough(new ManaCostsImpl<>("{W}{W}{W}{U}{U}{U}").getMana()));
+        Assert.assertTrue(manaOptions.enough(new ManaCostsImpl<>("{W}{W}{W}{W}{W}{W}{W}{W}{U}{U}{U}{U}{U}{U}{U}{U}").getMana()));
+        Assert.assertTrue(manaOptions.enough(new ManaCostsImpl<>("{4}{W}{W}{W}{W}{W}{W}{W}{W}{U}{U}{U}{U}{U}{U}{U}{U}").getMana()));
+
+        // only 12 lands can produce {W} and only 16 lands can produce {W} or {U}
+        Assert.assertFalse("non-payable cost must not be shown as payable",
+                manaOptions.enough(new ManaCostsImpl<>("{W}{W}{W}{W}{W}{W}{W}{W}{W}{W}{W}{W}{W}").getMana()));
+        Assert.assertFalse(manaOptions.enough(new ManaCostsImpl<>("{W}{W}{W}{W}{W}{W}{W}{W}{W}{U}{U}{U}{U}{U}{U}{U}{U}").getMana()));
+        Assert.assertFalse(manaOptions.enough(new ManaCostsImpl<>("{21}").getMana()));
+    }
+
+    /**
+     * Real 5-color mana base for performance checks.
+     * Leave the @Ignore added when pushing commits.
+     */
+    @Test
+    @Ignore
+    public void testFiveColorManaBaseBenchmark() {
+        // tri-lands
+        addCard(Zone.BATTLEFIELD, playerA, "Arcane Sanctum", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Crumbling Necropolis", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Jungle Shrine", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Savage Lands", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Seaside Citadel", 1);
+        // check lands
+        addCard(Zone.BATTLEFIELD, playerA, "Glacial Fortress", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Drowned Catacomb", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Dragonskull Summit", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Rootbound Crag", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Sunpetal Grove", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Isolated Chapel", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Sulfur Falls", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Woodland Cemetery", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Clifftop Retreat", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Hinterland Harbor", 1);
+        // shock lands
+        addCard(Zone.BATTLEFIELD, playerA, "Hallowed Fountain", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Watery Grave", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Blood Crypt", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Stomping Ground", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Temple Garden", 1);
+        // basics
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Swamp", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+
+        setStopAt(1, PhaseStep.UPKEEP);
+        execute();
+
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
+            long time = System.nanoTime() - start;
+            System.out.println(String.format("run %d: %d mana options in %d ms", run + 1, manaOptions.size(), time / 1000000));
+        }
+    }
 }
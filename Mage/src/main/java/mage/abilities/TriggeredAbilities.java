@@ -4,6 +4,7 @@ import mage.MageObject;
 import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEventRouting;
 import mage.game.events.NumberOfTriggersEvent;
 import mage.game.permanent.Permanent;
 import mage.game.stack.Spell;
@@ -40,6 +41,9 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     private List<TriggeredAbility> processingNeed = new ArrayList<>();
     private List<TriggeredAbility> processingDone = new ArrayList<>();
 
+    // event type -> triggers in the same order as the map, rebuilds on any triggers list changes
+    private transient Map<GameEvent.EventType, List<TriggeredAbility>> eventRouting = null;
+
     public TriggeredAbilities() {
     }
 
@@ -103,7 +107,11 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         processingStart(event);
         boolean needErrorChecksOnEnd = true;
         // must keep real object refs (not copies), cause check trigger code can change trigger's and effect's data like targets
-        ArrayList<TriggeredAbility> currentTriggers = new ArrayList<>(this.values());
+        // routed list keeps triggers order and never changes, so new triggers from the processing can't break it
+        // (integrity checks need all triggers for processing)
+        List<TriggeredAbility> currentTriggers = this.enableIntegrityChecks
+                ? new ArrayList<>(this.values())
+                : getTriggers(event.getType());
         try {
             for (TriggeredAbility ability : currentTriggers) {
                 if (ability.checkEventType(event, game)) {
@@ -120,6 +128,37 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         }
     }
 
+    private List<TriggeredAbility> getTriggers(GameEvent.EventType eventType) {
+        if (eventRouting == null) {
+            eventRouting = new EnumMap<>(GameEvent.EventType.class);
+        }
+        return eventRouting.computeIfAbsent(eventType, type -> GameEventRouting.select(this.values(), type, GameEventRouting::getEventTypes));
+    }
+
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility value) {
+        eventRouting = null;
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends TriggeredAbility> m) {
+        eventRouting = null;
+        super.putAll(m);
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        eventRouting = null;
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        eventRouting = null;
+        super.clear();
+    }
+
     private void makeSureNotProcessing(GameEvent newEvent) {
         if (!this.enableIntegrityChecks) {
             return;
@@ -318,11 +357,15 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        if (keySet().removeIf(key -> key.endsWith(sourceId.toString()))) {
+            eventRouting = null;
+        }
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        if (this.keySet().removeAll(sources.keySet())) {
+            eventRouting = null;
+        }
         sources.clear();
     }
 
@@ -332,9 +375,11 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
+        if (entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
                 && game.getState().getHelperEmblems().stream().noneMatch(emblem -> emblem.getId().equals(entry.getValue().getSourceId()))
-                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
+                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())))) {
+            eventRouting = null;
+        }
     }
 
     @Override
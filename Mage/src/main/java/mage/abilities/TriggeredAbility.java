@@ -6,6 +6,7 @@ import mage.game.events.GameEvent;
 import mage.util.CardUtil;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -22,6 +23,14 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Event types from checkEventType, used to route events to the ability (see GameEventRouting).
+     * Must be declared in the same class as checkEventType, null for unknown/any types.
+     */
+    default Set<GameEvent.EventType> getWatchedEventTypes() {
+        return null;
+    }
+
     /**
      * This method checks if the event has to trigger the ability,
      * and if it does trigger, may set targets and other values in associated effects
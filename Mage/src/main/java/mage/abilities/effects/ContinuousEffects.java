@@ -56,6 +56,9 @@ public class ContinuousEffects implements Serializable {
 
     private final Map<String, ContinuousEffectsList<ContinuousEffect>> lastEffectsListOnLayer = new HashMap<>(); // helps to find out new effect timestamps on layers
 
+    private int layeredEffectsReloadCounter = 0; // full reloads of active layered effects between layers
+    private int layeredEffectsReloadSkipCounter = 0; // skipped reloads (nothing was applied on the layer)
+
     public ContinuousEffects() {
         applyStatus = new ApplyStatusEffect();
         auraReplacementEffect = new AuraReplacementEffect();
@@ -83,6 +86,8 @@ public class ContinuousEffects implements Serializable {
         }
         collectAllEffects();
         order = effect.order;
+        layeredEffectsReloadCounter = effect.layeredEffectsReloadCounter;
+        layeredEffectsReloadSkipCounter = effect.layeredEffectsReloadSkipCounter;
     }
 
     private synchronized void collectAllEffects() {
@@ -991,6 +996,7 @@ public class ContinuousEffects implements Serializable {
         }
 
         layer = filterLayeredEffects(activeLayerEffects, Layer.ControlChangingEffects_2);
+        boolean stateChanged = !layer.isEmpty();
         // apply control changing effects multiple times if it's needed
         // for cases when control over permanents with change control abilities is changed
         // e.g. Mind Control is controlled by Steal Enchantment
@@ -1005,16 +1011,19 @@ public class ContinuousEffects implements Serializable {
             if (!game.getBattlefield().fireControlChangeEvents(game)) {
                 break;
             }
+            stateChanged = true;
             // reset control before reapplying control changing effects
             game.getBattlefield().resetPermanentsControl();
         }
 
-        applyLayer(activeLayerEffects, Layer.TextChangingEffects_3, game, "layer_3");
-        activeLayerEffects = getLayeredEffects(game, "layer_3");
-        applyLayer(activeLayerEffects, Layer.TypeChangingEffects_4, game, "layer_4");
-        activeLayerEffects = getLayeredEffects(game, "layer_4");
-        applyLayer(activeLayerEffects, Layer.ColorChangingEffects_5, game, "layer_5");
-        activeLayerEffects = getLayeredEffects(game, "layer_5");
+        // reload layerEffects only if something was changed since the last reload
+        // (most games don't have text, type or color changing effects at all)
+        stateChanged |= applyLayer(activeLayerEffects, Layer.TextChangingEffects_3, game, "layer_3");
+        activeLayerEffects = reloadLayeredEffects(activeLayerEffects, stateChanged, game, "layer_3");
+        stateChanged = applyLayer(activeLayerEffects, Layer.TypeChangingEffects_4, game, "layer_4");
+        activeLayerEffects = reloadLayeredEffects(activeLayerEffects, stateChanged, game, "layer_4");
+        stateChanged = applyLayer(activeLayerEffects, Layer.ColorChangingEffects_5, game, "layer_5");
+        activeLayerEffects = reloadLayeredEffects(activeLayerEffects, stateChanged, game, "layer_5");
 
         Map<ContinuousEffect, List<Ability>> appliedEffectAbilities = new HashMap<>();
         boolean done = false;
@@ -1162,10 +1171,52 @@ public class ContinuousEffects implements Serializable {
         return object != null && object.hasAbility(ability, game);
     }
 
-    private void applyLayer(List<ContinuousEffect> activeLayerEffects, Layer currentLayer, Game game, String timestampGroupName) {
+    /**
+     * Reload active layered effects after the layer. If nothing was applied
+     * since the last reload then the active effects are the same, so it only
+     * updates timestamps and order for the group (same result as the full
+     * reload)
+     *
+     * @param activeLayerEffects effects from the last reload
+     * @param stateChanged       true if some effects were applied since the last reload
+     * @param game
+     * @param timestampGroupName
+     * @return effects list ordered by timestamp
+     */
+    private List<ContinuousEffect> reloadLayeredEffects(List<ContinuousEffect> activeLayerEffects, boolean stateChanged, Game game, String timestampGroupName) {
+        if (stateChanged) {
+            layeredEffectsReloadCounter++;
+            return getLayeredEffects(game, timestampGroupName);
+        }
+        layeredEffectsReloadSkipCounter++;
+        List<ContinuousEffect> layerEffects = new ArrayList<>(activeLayerEffects);
+        updateTimestamps(timestampGroupName, layerEffects);
+        layerEffects.sort(Comparator.comparingLong(ContinuousEffect::getOrder));
+        return layerEffects;
+    }
+
+    /**
+     * Number of full reloads of active layered effects between layers
+     */
+    public int getLayeredEffectsReloadCounter() {
+        return layeredEffectsReloadCounter;
+    }
+
+    /**
+     * Number of skipped reloads of active layered effects between layers (nothing was applied on the layer)
+     */
+    public int getLayeredEffectsReloadSkipCounter() {
+        return layeredEffectsReloadSkipCounter;
+    }
+
+    /**
+     * @return true if any effect was applied on the layer
+     */
+    private boolean applyLayer(List<ContinuousEffect> activeLayerEffects, Layer currentLayer, Game game, String timestampGroupName) {
         List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, currentLayer);
         // layer is a list of all effects at the current layer
-        if (!layer.isEmpty()) {
+        boolean hasEffects = !layer.isEmpty();
+        if (hasEffects) {
             int numberOfEffects = layer.size();
             // appliedEffects holds the list of effects currently applied to the layer
             Set<UUID> appliedEffects = new HashSet<>();
@@ -1213,6 +1264,7 @@ public class ContinuousEffects implements Serializable {
                 }
             }
         }
+        return hasEffects;
     }
 
     private void applyContinuousEffect(ContinuousEffect effect, Layer currentLayer, Game game) {
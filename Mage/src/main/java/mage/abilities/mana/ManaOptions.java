@@ -31,6 +31,11 @@ public class ManaOptions extends LinkedHashSet<Mana> {
 
     private static final Logger logger = Logger.getLogger(ManaOptions.class);
 
+    // options count for sources without costs (e.g. many tri-lands in 5-color decks) after which
+    // variations are de-duplicated by hash and pruned from fully included options instead of the pairwise
+    // more valuable mana check, both ways keep the same payable costs
+    private static final int BIG_MANA_OPTIONS = 1024;
+
     public ManaOptions() {
     }
 
@@ -63,6 +68,8 @@ public class ManaOptions extends LinkedHashSet<Mana> {
             //perform a union of all existing options and the new options
             List<Mana> copy = new ArrayList<>(this);
             this.clear();
+            boolean wasChanged = false;
+            boolean bigList = copy.size() > BIG_MANA_OPTIONS;
             for (ActivatedManaAbilityImpl ability : abilities) {
                 for (Mana netMana : ability.getNetMana(game)) {
                     checkManaReplacementAndTriggeredMana(ability, game, netMana);
@@ -72,6 +79,11 @@ public class ManaOptions extends LinkedHashSet<Mana> {
                             Mana newMana = new Mana();
                             newMana.add(mana);
                             newMana.add(triggeredManaVariation);
+                            if (bigList) {
+                                // pairwise check is too slow here, see removeDominatedOptions below
+                                this.add(newMana);
+                                continue;
+                            }
                             for (Mana existingMana : this) {
                                 if (existingMana.equalManaValue(newMana)) {
                                     continue SkipAddMana;
@@ -80,6 +92,7 @@ public class ManaOptions extends LinkedHashSet<Mana> {
                                 if (moreValuable != null) {
                                     // only keep the more valuable mana
                                     existingMana.setToMana(moreValuable);
+                                    wasChanged = true;
                                     continue SkipAddMana;
                                 }
                             }
@@ -89,6 +102,12 @@ public class ManaOptions extends LinkedHashSet<Mana> {
 
                 }
             }
+            if (wasChanged) {
+                rehash();
+            }
+            if (bigList) {
+                removeDominatedOptions();
+            }
         }
     }
 
@@ -346,6 +365,8 @@ public class ManaOptions extends LinkedHashSet<Mana> {
             for (Mana mana : this) {
                 mana.add(addMana);
             }
+            // hash codes were changed
+            rehash();
         }
     }
 
@@ -376,6 +397,63 @@ public class ManaOptions extends LinkedHashSet<Mana> {
         return new ManaOptions(this);
     }
 
+    /**
+     * Must be called after options change in place, otherwise de-duplication
+     * will not find equal mana (set uses old hash codes)
+     */
+    private void rehash() {
+        List<Mana> copy = new ArrayList<>(this);
+        this.clear();
+        this.addAll(copy);
+    }
+
+    /**
+     * Removes options that are fully included in another option
+     * (all mana types of the other option are the same or bigger), keeps
+     * original order. Conditional mana is never removed.
+     * <p>
+     * It's a cheap version of removeFullyIncludedVariations for big lists: each
+     * option is compared with the bigger options only.
+     */
+    private void removeDominatedOptions() {
+        List<Mana> biggerFirst = new ArrayList<>(this);
+        biggerFirst.sort((mana1, mana2) -> Integer.compare(mana2.count(), mana1.count()));
+        List<Mana> kept = new ArrayList<>();
+        Set<Mana> dominated = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Mana option : biggerFirst) {
+            if (option.getClass() == Mana.class) {
+                for (Mana bigger : kept) {
+                    if (bigger.count() <= option.count()) {
+                        break;
+                    }
+                    if (isFullyIncluded(option, bigger)) {
+                        dominated.add(option);
+                        break;
+                    }
+                }
+            }
+            if (!dominated.contains(option)) {
+                kept.add(option);
+            }
+        }
+        if (!dominated.isEmpty()) {
+            this.removeIf(dominated::contains);
+        }
+    }
+
+    private static boolean isFullyIncluded(Mana lessMana, Mana moreMana) {
+        return moreMana.getClass() == Mana.class
+                && lessMana.getFlag() == moreMana.getFlag()
+                && lessMana.getWhite() <= moreMana.getWhite()
+                && lessMana.getBlue() <= moreMana.getBlue()
+                && lessMana.getBlack() <= moreMana.getBlack()
+                && lessMana.getRed() <= moreMana.getRed()
+                && lessMana.getGreen() <= moreMana.getGreen()
+                && lessMana.getGeneric() <= moreMana.getGeneric()
+                && lessMana.getColorless() <= moreMana.getColorless()
+                && lessMana.getAny() <= moreMana.getAny();
+    }
+
     /**
      * Performs the simulation of a mana ability with costs
      *
@@ -588,8 +666,9 @@ public class ManaOptions extends LinkedHashSet<Mana> {
             return true;
         }
 
+        int needCount = mana.count();
         for (Mana avail : this) {
-            if (mana.enough(avail)) {
+            if (avail.count() >= needCount && mana.enough(avail)) {
                 return true;
             }
         }
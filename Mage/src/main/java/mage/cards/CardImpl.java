@@ -167,23 +167,35 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     }
 
     public static Card createCard(Class<?> clazz, CardSetInfo setInfo) {
-        return createCard(clazz, setInfo, null);
+        return createCard(clazz, setInfo, null, true);
     }
 
+    /**
+     * Create card without prototypes cache (e.g. for one time cards scan)
+     */
     public static Card createCard(Class<?> clazz, CardSetInfo setInfo, List<String> errorList) {
+        return createCard(clazz, setInfo, errorList, false);
+    }
+
+    private static Card createCard(Class<?> clazz, CardSetInfo setInfo, List<String> errorList, boolean usePrototypes) {
         String setCode = null;
         try {
             Card card;
             if (setInfo == null) {
                 Constructor<?> con = clazz.getConstructor(UUID.class);
                 card = (Card) con.newInstance(new Object[]{null});
+            } else if (usePrototypes) {
+                setCode = setInfo.getExpansionSetCode();
+                card = CardPrototypes.createCard(clazz, setInfo);
             } else {
                 setCode = setInfo.getExpansionSetCode();
                 Constructor<?> con = clazz.getConstructor(UUID.class, CardSetInfo.class);
                 card = (Card) con.newInstance(null, setInfo);
             }
             return card;
-        } catch (Exception e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             String err = "Error loading card: " + clazz.getCanonicalName() + " (" + setCode + ")";
             if (errorList != null) {
                 errorList.add(err);
@@ -0,0 +1,118 @@
+package mage.cards;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cards factory with prepared card prototypes.
+ * <p>
+ * Card constructor is slow (reflection, rules text parsing, abilities init), so new cards
+ * made as copy of the prototype with new ids (same as copy card in game, see GameState.copyCard).
+ * Prototype miss uses cached constructor handle instead reflection search.
+ * <p>
+ * Can be disabled by -Dxmage.cards.usePrototypes=false
+ */
+final class CardPrototypes {
+
+    private static final int MAX_PROTOTYPES = 2000;
+    private static final boolean USE_PROTOTYPES = !"false".equals(System.getProperty("xmage.cards.usePrototypes"));
+
+    private static final MethodType CARD_CONSTRUCTOR_TYPE = MethodType.methodType(void.class, UUID.class, CardSetInfo.class);
+
+    private static final Map<Class<?>, MethodHandle> constructors = new ConcurrentHashMap<>();
+
+    // LRU by access order
+    private static final Map<String, Card> prototypes = new LinkedHashMap<String, Card>(MAX_PROTOTYPES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Card> eldest) {
+            return size() > MAX_PROTOTYPES;
+        }
+    };
+
+    private CardPrototypes() {
+    }
+
+    static Card createCard(Class<?> clazz, CardSetInfo setInfo) throws Throwable {
+        String key = USE_PROTOTYPES ? makeKey(clazz, setInfo) : null;
+        if (key == null) {
+            return construct(clazz, setInfo);
+        }
+
+        Card prototype;
+        synchronized (prototypes) {
+            prototype = prototypes.get(key);
+        }
+        if (prototype != null) {
+            return copyPrototype(prototype);
+        }
+
+        // construct outside the lock: card can create other cards (e.g. second side)
+        Card card = construct(clazz, setInfo);
+        if (card instanceof CardImpl) {
+            synchronized (prototypes) {
+                prototypes.putIfAbsent(key, card.copy());
+            }
+        }
+        return card;
+    }
+
+    static void clear() {
+        synchronized (prototypes) {
+            prototypes.clear();
+        }
+    }
+
+    static int size() {
+        synchronized (prototypes) {
+            return prototypes.size();
+        }
+    }
+
+    private static Card construct(Class<?> clazz, CardSetInfo setInfo) throws Throwable {
+        MethodHandle constructor = constructors.get(clazz);
+        if (constructor == null) {
+            constructor = MethodHandles.publicLookup()
+                    .findConstructor(clazz, CARD_CONSTRUCTOR_TYPE)
+                    .asType(MethodType.methodType(Card.class, UUID.class, CardSetInfo.class));
+            constructors.put(clazz, constructor);
+        }
+        return (Card) constructor.invokeExact((UUID) null, setInfo);
+    }
+
+    private static Card copyPrototype(Card prototype) {
+        Card card;
+        // prototype's lazy fields can be changed on copy, so don't copy it in parallel
+        synchronized (prototype) {
+            card = prototype.copy();
+        }
+        assignNewIds(card);
+        return card;
+    }
+
+    private static void assignNewIds(Card card) {
+        card.assignNewId();
+        // constructor creates new second side card, so it must have own id too
+        if (card instanceof CardImpl && ((CardImpl) card).secondSideCard != null) {
+            assignNewIds(((CardImpl) card).secondSideCard);
+        }
+    }
+
+    private static String makeKey(Class<?> clazz, CardSetInfo setInfo) {
+        CardGraphicInfo graphicInfo = setInfo.getGraphicInfo();
+        if (graphicInfo != null && graphicInfo.getFrameColor() != null) {
+            // rare custom frames, no needs in cache
+            return null;
+        }
+        return clazz.getName()
+                + "|" + setInfo.getName()
+                + "|" + setInfo.getExpansionSetCode()
+                + "|" + setInfo.getCardNumber()
+                + "|" + setInfo.getRarity()
+                + "|" + (graphicInfo == null ? "" : graphicInfo.getFrameStyle() + "|" + graphicInfo.getUsesVariousArt());
+    }
+}
@@ -28,6 +28,9 @@ public class Sets extends HashMap<String, ExpansionSet> {
 
     private final Set<String> customSets = new HashSet<>();
 
+    // deck validators use it on each deck check
+    private volatile List<String> eternalLegalSetCodes = null;
+
     private Sets() {
         List<String> packages = new ArrayList<>();
         packages.add("mage.sets");
@@ -48,6 +51,27 @@ public class Sets extends HashMap<String, ExpansionSet> {
         if (set.getSetType().isCustomSet()) {
             customSets.add(set.getCode());
         }
+        eternalLegalSetCodes = null;
+    }
+
+    /**
+     * Codes of all sets legal in eternal formats like Vintage, Legacy or Commander
+     *
+     * @return unmodifiable cached list
+     */
+    public static List<String> getEternalLegalSetCodes() {
+        List<String> res = instance.eternalLegalSetCodes;
+        if (res == null) {
+            List<String> codes = new ArrayList<>();
+            for (ExpansionSet set : instance.values()) {
+                if (set.getSetType().isEternalLegal()) {
+                    codes.add(set.getCode());
+                }
+            }
+            res = Collections.unmodifiableList(codes);
+            instance.eternalLegalSetCodes = res;
+        }
+        return res;
     }
 
     /**
@@ -1,8 +1,7 @@
 package mage.cards.decks;
 
 import mage.cards.Card;
-import mage.cards.repository.CardInfo;
-import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardPrintingsIndex;
 import mage.constants.Rarity;
 import org.apache.log4j.Logger;
 
@@ -22,6 +21,12 @@ public class Constructed extends DeckValidator {
     protected List<Rarity> rarities = new ArrayList<>();
     protected Set<String> singleCards = new HashSet<>();
 
+    // fast lookups for legal sets (some formats refill setCodes on validate, e.g. SuperType2, so it keeps source list to find changes)
+    private List<String> setCodesLookupSource = null;
+    private Set<String> setCodesLookup = null;
+    private CardPrintingsIndex setsMaskIndex = null;
+    private BitSet setsMask = null;
+
     protected Constructed(String name) {
         this(name, null);
     }
@@ -291,14 +296,7 @@ public class Constructed extends DeckValidator {
      */
     protected boolean legalRarity(Card card) {
         // check if card is legal if taken from other set
-        boolean legal = false;
-        List<CardInfo> cardInfos = CardRepository.instance.findCards(card.getName());
-        for (CardInfo cardInfo : cardInfos) {
-            if (rarities.contains(cardInfo.getRarity())) {
-                legal = true;
-                break;
-            }
-        }
+        boolean legal = CardPrintingsIndex.getInstance().isPrintedAtRarities(card.getName(), rarities);
         if (!legal && !errorsListContainsGroup(card.getName())) {
             addError(DeckValidatorErrorType.OTHER, card.getName(), "Invalid rarity: " + card.getRarity(), true);
         }
@@ -312,7 +310,19 @@ public class Constructed extends DeckValidator {
      * @return Whether the set is legal in this format.
      */
     protected boolean isSetAllowed(String code) {
-        return setCodes.isEmpty() || setCodes.contains(code);
+        if (setCodes.isEmpty()) {
+            return true;
+        }
+        prepareSetCodesLookup();
+        return setCodesLookup.contains(code);
+    }
+
+    private void prepareSetCodesLookup() {
+        if (!setCodes.equals(setCodesLookupSource)) {
+            setCodesLookup = new HashSet<>(setCodes);
+            setCodesLookupSource = new ArrayList<>(setCodes);
+            setsMask = null;
+        }
     }
 
     /**
@@ -323,13 +333,17 @@ public class Constructed extends DeckValidator {
      */
     protected boolean legalSets(Card card) {
         // check if card is legal if taken from other set
-        boolean legal = false;
-        List<CardInfo> cardInfos = CardRepository.instance.findCards(card.getName());
-        for (CardInfo cardInfo : cardInfos) {
-            if (isSetAllowed(cardInfo.getSetCode())) {
-                legal = true;
-                break;
+        CardPrintingsIndex index = CardPrintingsIndex.getInstance();
+        boolean legal;
+        if (setCodes.isEmpty()) {
+            legal = index.isPrinted(card.getName());
+        } else {
+            prepareSetCodesLookup();
+            if (setsMask == null || setsMaskIndex != index) {
+                setsMask = index.makeSetsMask(setCodesLookup);
+                setsMaskIndex = index;
             }
+            legal = index.isPrintedInSets(card.getName(), setsMask);
         }
 
         // check if single card allows
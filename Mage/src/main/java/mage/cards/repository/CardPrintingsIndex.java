@@ -0,0 +1,165 @@
+package mage.cards.repository;
+
+import mage.constants.Rarity;
+import org.apache.log4j.Logger;
+
+import java.util.*;
+
+/**
+ * Immutable in-memory index of all card printings by card name, used by deck validation instead of db queries
+ * per each card.
+ * <p>
+ * Each card name has a bitset of printings (set indexes) and a mask of printed rarities, so format legality check
+ * is a bitsets intersection with format's sets mask (see {@link #makeSetsMask(Collection)}).
+ * <p>
+ * Names resolving works same way as {@link CardRepository#findCards(String)}: full name, main name, split card's
+ * half name or other side name.
+ * <p>
+ * Index builds on first usage (server preloads it on startup) and rebuilds after cards db changes.
+ */
+public final class CardPrintingsIndex {
+
+    private static final Logger logger = Logger.getLogger(CardPrintingsIndex.class);
+
+    private static volatile CardPrintingsIndex instance;
+
+    private final long contentChanges;
+    private final Map<String, Integer> setIndexes; // set code -> bit in printings
+    private final Map<String, Printings> byName; // main and full names
+    private final Map<String, String> splitHalves; // split card's half name -> full name
+    private final Map<String, Printings> byOtherName; // flip, second side, spell option names
+
+    /**
+     * Actual index for current cards db content
+     */
+    public static CardPrintingsIndex getInstance() {
+        long contentChanges = CardRepository.instance.getContentChanges();
+        CardPrintingsIndex index = instance;
+        if (index == null || index.contentChanges != contentChanges) {
+            synchronized (CardPrintingsIndex.class) {
+                index = instance;
+                if (index == null || index.contentChanges != contentChanges) {
+                    index = new CardPrintingsIndex(contentChanges, CardRepository.instance.findAllPrintings());
+                    instance = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    CardPrintingsIndex(long contentChanges, List<CardInfo> cards) {
+        long startTime = System.currentTimeMillis();
+        this.contentChanges = contentChanges;
+
+        Map<String, Integer> setIndexes = new HashMap<>();
+        Map<String, Printings> byName = new HashMap<>();
+        Map<String, Printings> byOtherName = new HashMap<>();
+        Map<String, String> splitCards = new HashMap<>(); // set and number -> full split card name
+        Map<String, String> splitHalvesCards = new HashMap<>(); // half name -> set and number
+        for (CardInfo card : cards) {
+            int setIndex = setIndexes.computeIfAbsent(card.getSetCode(), x -> setIndexes.size());
+            if (card.isSplitCardHalf()) {
+                splitHalvesCards.putIfAbsent(card.getName(), CardRepository.makeSetAndNumberKey(card.getSetCode(), card.getCardNumber()));
+                continue;
+            }
+            if (card.isSplitCard()) {
+                splitCards.put(CardRepository.makeSetAndNumberKey(card.getSetCode(), card.getCardNumber()), card.getName());
+            }
+            byName.computeIfAbsent(card.getName(), x -> new Printings()).add(setIndex, card.getRarity());
+            addOtherName(byOtherName, card.getFlipCardName(), setIndex, card.getRarity());
+            addOtherName(byOtherName, card.getSecondSideName(), setIndex, card.getRarity());
+            addOtherName(byOtherName, card.getSpellOptionCardName(), setIndex, card.getRarity());
+            addOtherName(byOtherName, card.getDoubleFacedSecondSideName(), setIndex, card.getRarity());
+        }
+        Map<String, String> splitHalves = new HashMap<>();
+        splitHalvesCards.forEach((halfName, setAndNumber) -> {
+            String fullName = splitCards.get(setAndNumber);
+            if (fullName != null) {
+                splitHalves.put(halfName, fullName);
+            }
+        });
+
+        this.setIndexes = Collections.unmodifiableMap(setIndexes);
+        this.byName = Collections.unmodifiableMap(byName);
+        this.splitHalves = Collections.unmodifiableMap(splitHalves);
+        this.byOtherName = Collections.unmodifiableMap(byOtherName);
+        logger.info("Card printings index: " + byName.size() + " cards from " + setIndexes.size() + " sets"
+                + " in " + (System.currentTimeMillis() - startTime) + " ms");
+    }
+
+    private static void addOtherName(Map<String, Printings> byOtherName, String name, int setIndex, Rarity rarity) {
+        if (name != null && !name.isEmpty()) {
+            byOtherName.computeIfAbsent(name, x -> new Printings()).add(setIndex, rarity);
+        }
+    }
+
+    /**
+     * Sets mask for format's legal sets, can be used with that index instance only
+     */
+    public BitSet makeSetsMask(Collection<String> setCodes) {
+        BitSet mask = new BitSet(setIndexes.size());
+        for (String setCode : setCodes) {
+            Integer setIndex = setIndexes.get(setCode);
+            if (setIndex != null) {
+                mask.set(setIndex);
+            }
+        }
+        return mask;
+    }
+
+    public boolean isPrinted(String name) {
+        return findPrintings(name) != null;
+    }
+
+    public boolean isPrintedInSets(String name, BitSet setsMask) {
+        Printings printings = findPrintings(name);
+        return printings != null && printings.sets.intersects(setsMask);
+    }
+
+    public boolean isPrintedAtRarities(String name, Collection<Rarity> rarities) {
+        Printings printings = findPrintings(name);
+        if (printings == null) {
+            return false;
+        }
+        for (Rarity rarity : rarities) {
+            if ((printings.rarities & (1 << rarity.ordinal())) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Printings findPrintings(String name) {
+        Printings printings;
+        if (name.contains(" // ")) {
+            printings = byName.get(name);
+            if (printings == null) {
+                printings = byName.get(name.split(" // ", 2)[0]);
+            }
+            return printings;
+        }
+
+        printings = byName.get(name);
+        if (printings == null) {
+            String fullName = splitHalves.get(name);
+            if (fullName != null) {
+                return byName.get(fullName);
+            }
+            printings = byOtherName.get(name);
+        }
+        return printings;
+    }
+
+    private static final class Printings {
+
+        private final BitSet sets = new BitSet();
+        private int rarities = 0;
+
+        private void add(int setIndex, Rarity rarity) {
+            sets.set(setIndex);
+            if (rarity != null) {
+                rarities |= 1 << rarity.ordinal();
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.dao.GenericRawResults;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.stmt.PreparedQuery;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.SelectArg;
 import com.j256.ormlite.stmt.Where;
@@ -14,12 +15,15 @@ import mage.constants.CardType;
 import mage.constants.SetType;
 import mage.constants.SuperType;
 import mage.util.RandomUtil;
+import mage.util.metrics.Histogram;
+import mage.util.metrics.MetricsRegistry;
 import org.apache.log4j.Logger;
 
 import java.io.File;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -41,8 +45,16 @@ public enum CardRepository {
     private static final long CARD_DB_VERSION = 54; // raise this if db structure was changed
     private static final long CARD_CONTENT_VERSION = 241; // raise this if new cards were added to the server
 
+    // max inserts per one db transaction on cards adding
+    private static final int SAVE_CARDS_BATCH_SIZE = 5000;
+
+    private static final Histogram queryTimeMetric = MetricsRegistry.instance.histogram("db.cards.query.nanos");
+
     private Dao<CardInfo, Object> cardsDao;
 
+    // in-memory cards content version, raised on any cards db changes (used by caches like CardPrintingsIndex)
+    private final AtomicLong contentChanges = new AtomicLong();
+
     // store names lists like all cards, lands, etc (it's static data and can be calculated one time only)
     private static final Map<String, Set<String>> namesQueryCache = new HashMap<>();
 
@@ -104,25 +116,94 @@ public enum CardRepository {
             return;
         }
 
+        // only add new cards (no updates)
+        logger.info("DB: need to add " + newCards.size() + " new cards");
         try {
-            cardsDao.callBatchTasks(() -> {
-                // only add new cards (no updates)
-                logger.info("DB: need to add " + newCards.size() + " new cards");
-                try {
-                    for (CardInfo card : newCards) {
-                        cardsDao.create(card);
+            // split to big batches, so full db rebuild don't keep all inserts in one transaction
+            for (int from = 0; from < newCards.size(); from += SAVE_CARDS_BATCH_SIZE) {
+                List<CardInfo> batch = newCards.subList(from, Math.min(from + SAVE_CARDS_BATCH_SIZE, newCards.size()));
+                cardsDao.callBatchTasks(() -> {
+                    try {
+                        for (CardInfo card : batch) {
+                            cardsDao.create(card);
+                        }
+                    } catch (SQLException e) {
+                        Logger.getLogger(CardRepository.class).error("Error adding cards to DB - " + e, e);
+                        processMemoryErrors(e);
                     }
-                } catch (SQLException e) {
-                    Logger.getLogger(CardRepository.class).error("Error adding cards to DB - " + e, e);
-                    processMemoryErrors(e);
-                }
-                return null;
-            });
+                    return null;
+                });
+            }
 
             setContentVersion(newContentVersion);
         } catch (Exception ex) {
             //
+        } finally {
+            contentChanges.incrementAndGet();
+        }
+    }
+
+    /**
+     * In-memory version of the cards content, it changes after new cards added or db re-opened
+     *
+     * @return version to compare with cached data
+     */
+    public long getContentChanges() {
+        return contentChanges.get();
+    }
+
+    /**
+     * All printings of all cards by one query, only names, set, number and rarity fields are loaded
+     * (see {@link CardPrintingsIndex})
+     *
+     * @return partially loaded cards
+     */
+    public List<CardInfo> findAllPrintings() {
+        try {
+            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
+            qb.selectColumns("name", "setCode", "cardNumber", "rarity", "splitCard", "splitCardHalf",
+                    "flipCardName", "secondSideName", "spellOptionCardName", "doubleFacedSecondSideName");
+            return queryCards(qb.prepare());
+        } catch (SQLException e) {
+            Logger.getLogger(CardRepository.class).error("Error getting all printings from DB, possible low memory: " + e, e);
+            processMemoryErrors(e);
         }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Keys of all cards in db (see {@link #makeSetAndNumberKey(String, String)}), loaded by one query
+     *
+     * @return set of "setCode + cardNumber" keys
+     */
+    public Set<String> getSetAndNumberKeys() {
+        Set<String> keys = new HashSet<>();
+        try {
+            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
+            qb.distinct().selectColumns("setCode", "cardNumber");
+            GenericRawResults<String[]> results = cardsDao.queryRaw(qb.prepareStatementString());
+            for (String[] row : results) {
+                keys.add(makeSetAndNumberKey(row[0], row[1]));
+            }
+            results.close();
+        } catch (Exception e) {
+            Logger.getLogger(CardRepository.class).error("Error getting set and number keys from DB, possible low memory: " + e, e);
+            processMemoryErrors(e);
+        }
+        return keys;
+    }
+
+    private List<CardInfo> queryCards(PreparedQuery<CardInfo> query) throws SQLException {
+        long startTime = System.nanoTime();
+        try {
+            return cardsDao.query(query);
+        } finally {
+            queryTimeMetric.recordNanosSince(startTime);
+        }
+    }
+
+    public static String makeSetAndNumberKey(String setCode, String cardNumber) {
+        return setCode + "/" + cardNumber;
     }
 
     private void addNewNames(CardInfo card, Set<String> namesList) {
@@ -167,7 +248,7 @@ public enum CardRepository {
         try {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
             qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            List<CardInfo> results = cardsDao.query(qb.prepare());
+            List<CardInfo> results = queryCards(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -187,7 +268,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
             qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
             qb.where().not().like("types", new SelectArg('%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
+            List<CardInfo> results = queryCards(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -211,7 +292,7 @@ public enum CardRepository {
                     where.not().like("supertypes", '%' + SuperType.BASIC.name() + '%'),
                     where.like("types", '%' + CardType.LAND.name() + '%')
             );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
+            List<CardInfo> results = queryCards(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -231,7 +312,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
             qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
             qb.where().not().like("supertypes", new SelectArg('%' + SuperType.BASIC.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
+            List<CardInfo> results = queryCards(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -251,7 +332,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
             qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
             qb.where().like("types", new SelectArg('%' + CardType.CREATURE.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
+            List<CardInfo> results = queryCards(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -271,7 +352,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
             qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
             qb.where().like("types", new SelectArg('%' + CardType.ARTIFACT.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
+            List<CardInfo> results = queryCards(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -295,7 +376,7 @@ public enum CardRepository {
                     where.not().like("types", '%' + CardType.CREATURE.name() + '%'),
                     where.not().like("types", '%' + CardType.LAND.name() + '%')
             );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
+            List<CardInfo> results = queryCards(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -319,7 +400,7 @@ public enum CardRepository {
                     where.not().like("types", '%' + CardType.ARTIFACT.name() + '%'),
                     where.not().like("types", '%' + CardType.LAND.name() + '%')
             );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
+            List<CardInfo> results = queryCards(qb.prepare());
             for (CardInfo card : results) {
                 addNewNames(card, names);
             }
@@ -351,7 +432,7 @@ public enum CardRepository {
                 // (example: vow - 65 - Jacob Hauken, Inspector), so make priority for main side first
                 queryBuilder.orderBy("nightCard", true);
             }
-            List<CardInfo> result = cardsDao.query(queryBuilder.prepare());
+            List<CardInfo> result = queryCards(queryBuilder.prepare());
             if (!result.isEmpty()) {
                 return result.get(0);
             }
@@ -381,7 +462,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             queryBuilder.where().not().in("className", classNames);
 
-            return cardsDao.query(queryBuilder.prepare());
+            return queryCards(queryBuilder.prepare());
         } catch (SQLException e) {
             Logger.getLogger(CardRepository.class).error("Error getting missing cards from DB: " + e, e);
             processMemoryErrors(e);
@@ -520,18 +601,18 @@ public enum CardRepository {
                 // Could be made faster by searching assuming it's NOT a split card and first searching by the first
                 // half of the name, but this is easier to understand.
                 queryBuilder.where().eq("name", new SelectArg(name));
-                results = cardsDao.query(queryBuilder.prepare());
+                results = queryCards(queryBuilder.prepare());
 
                 // Result comes back empty, try to search using the first half (could be Adventure, MDFC, etc.)
                 if (results.isEmpty()) {
                     String mainCardName = name.split(" // ", 2)[0];
                     queryBuilder.where().eq("name", new SelectArg(mainCardName));
-                    results = cardsDao.query(queryBuilder.prepare());  // If still empty, then card can't be found
+                    results = queryCards(queryBuilder.prepare());  // If still empty, then card can't be found
                 }
             } else { // Cannot tell if string represents the full name of a card or only part of it.
                 // Assume it is the full card name
                 queryBuilder.where().eq("name", new SelectArg(name));
-                results = cardsDao.query(queryBuilder.prepare());
+                results = queryCards(queryBuilder.prepare());
 
                 if (results.isEmpty()) {
                     // Nothing found when looking for main name, try looking under the other names
@@ -540,7 +621,7 @@ public enum CardRepository {
                             .eq("secondSideName", new SelectArg(name)).or()
                             .eq("spellOptionCardName", new SelectArg(name)).or()
                             .eq("doubleFacedSecondSideName", new SelectArg(name));
-                    results = cardsDao.query(queryBuilder.prepare());
+                    results = queryCards(queryBuilder.prepare());
                 } else {
                     // Check that a full card was found and not a SplitCardHalf
                     // Can be caused by searching for "Fire" instead of "Fire // Ice"
@@ -550,7 +631,7 @@ public enum CardRepository {
                         queryBuilder.where()
                                 .eq("setCode", new SelectArg(firstCardInfo.setCode)).and()
                                 .eq("cardNumber", new SelectArg(firstCardInfo.cardNumber));
-                        List<CardInfo> tmpResults = cardsDao.query(queryBuilder.prepare());
+                        List<CardInfo> tmpResults = queryCards(queryBuilder.prepare());
 
                         String fullSplitCardName = null;
                         for (CardInfo cardInfo : tmpResults) {
@@ -564,7 +645,7 @@ public enum CardRepository {
                         }
 
                         queryBuilder.where().eq("name", new SelectArg(fullSplitCardName));
-                        results = cardsDao.query(queryBuilder.prepare());
+                        results = queryCards(queryBuilder.prepare());
                     }
                 }
             }
@@ -587,7 +668,7 @@ public enum CardRepository {
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             queryBuilder.where().eq("className", new SelectArg(canonicalClassName));
-            return cardsDao.query(queryBuilder.prepare());
+            return queryCards(queryBuilder.prepare());
         } catch (SQLException e) {
             Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement" + e, e);
             processMemoryErrors(e);
@@ -609,7 +690,7 @@ public enum CardRepository {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             criteria.buildQuery(queryBuilder);
 
-            return cardsDao.query(queryBuilder.prepare());
+            return queryCards(queryBuilder.prepare());
         } catch (SQLException e) {
             Logger.getLogger(CardRepository.class).error("Error during execution of card repository query statement: " + e, e);
             processMemoryErrors(e);
@@ -701,6 +782,8 @@ public enum CardRepository {
             cardsDao = DaoManager.createDao(connectionSource, CardInfo.class);
         } catch (SQLException e) {
             Logger.getLogger(CardRepository.class).error("Error opening card repository - " + e, e);
+        } finally {
+            contentChanges.incrementAndGet();
         }
     }
 
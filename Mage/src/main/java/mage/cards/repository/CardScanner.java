@@ -3,10 +3,11 @@ package mage.cards.repository;
 import mage.cards.*;
 import org.apache.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * @author North
@@ -17,6 +18,9 @@ public final class CardScanner {
 
     private static final Logger logger = Logger.getLogger(CardScanner.class);
 
+    // small updates (new cards from a few sets) don't need parallel creation
+    private static final int PARALLEL_SCAN_MIN_CARDS = 1000;
+
     public static void scan() {
         scan(null);
     }
@@ -27,7 +31,6 @@ public final class CardScanner {
         }
         scanned = true;
 
-        List<CardInfo> cardsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToUpdate = new ArrayList<>();
 
@@ -51,37 +54,82 @@ public final class CardScanner {
         ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
 
         // check cards (only add mode, without updates)
+        // all existing cards loaded by one query instead query per card
+        Set<String> existingCards = CardRepository.instance.getSetAndNumberKeys();
+        List<CardSetInfo> newCards = new ArrayList<>();
+        List<Class<?>> newCardClasses = new ArrayList<>();
         for (ExpansionSet set : Sets.getInstance().values()) {
             for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
-                if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber(), false) == null) {
+                if (!existingCards.contains(CardRepository.makeSetAndNumberKey(set.getCode(), setInfo.getCardNumber()))) {
                     // found new card
-                    Card card = CardImpl.createCard(
-                            setInfo.getCardClass(),
-                            new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
-                            errorsList);
-                    if (card != null) {
-                        // Adds only main card, except night cards.
-
-                        // TODO: remove night cards from sets and db someday
-                        // Possible reasons for night cards in sets:
-                        // - direct put night card to battlefield by name in tests;
-                        // - images download;
-                        // - in old days xmage client was able to works without card classes, e.g.
-                        //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
-
-                        cardsToAdd.add(new CardInfo(card));
-                        if (card instanceof SplitCard) {
-                            SplitCard splitCard = (SplitCard) card;
-                            cardsToAdd.add(new CardInfo(splitCard.getLeftHalfCard()));
-                            cardsToAdd.add(new CardInfo(splitCard.getRightHalfCard()));
-                        }
-                    }
+                    newCards.add(new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()));
+                    newCardClasses.add(setInfo.getCardClass());
                 }
             }
         }
+
+        // card creation is slow (reflection + abilities init), so it runs in parallel on first start or db rebuild
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        List<List<CardInfo>> createdCards;
+        if (newCards.size() < PARALLEL_SCAN_MIN_CARDS) {
+            createdCards = new ArrayList<>();
+            for (int i = 0; i < newCards.size(); i++) {
+                createdCards.add(createCardInfos(newCardClasses.get(i), newCards.get(i), errors));
+            }
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors()));
+            try {
+                createdCards = pool.submit(() -> IntStream.range(0, newCards.size())
+                        .parallel()
+                        .mapToObj(i -> createCardInfos(newCardClasses.get(i), newCards.get(i), errors))
+                        .collect(Collectors.toList())
+                ).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.error("Cards scan was interrupted", e);
+                createdCards = Collections.emptyList();
+            } catch (ExecutionException e) {
+                logger.error("Can't scan new cards: " + e, e);
+                createdCards = Collections.emptyList();
+            } finally {
+                pool.shutdown();
+            }
+        }
+        if (errorsList != null) {
+            errorsList.addAll(errors);
+        }
+
+        // keep original sets order in db
+        List<CardInfo> cardsToAdd = new ArrayList<>();
+        createdCards.forEach(cardsToAdd::addAll);
         CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
     }
 
+    private static List<CardInfo> createCardInfos(Class<?> cardClass, CardSetInfo cardSetInfo, List<String> errorsList) {
+        Card card = CardImpl.createCard(cardClass, cardSetInfo, errorsList);
+        if (card == null) {
+            return Collections.emptyList();
+        }
+
+        // Adds only main card, except night cards.
+
+        // TODO: remove night cards from sets and db someday
+        // Possible reasons for night cards in sets:
+        // - direct put night card to battlefield by name in tests;
+        // - images download;
+        // - in old days xmage client was able to works without card classes, e.g.
+        //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
+
+        List<CardInfo> res = new ArrayList<>();
+        res.add(new CardInfo(card));
+        if (card instanceof SplitCard) {
+            SplitCard splitCard = (SplitCard) card;
+            res.add(new CardInfo(splitCard.getLeftHalfCard()));
+            res.add(new CardInfo(splitCard.getRightHalfCard()));
+        }
+        return res;
+    }
+
     public static List<Card> getAllCards() {
         return getAllCards(true);
     }
@@ -18,6 +18,10 @@ public abstract class FilterImpl<E> implements Filter<E> {
     protected String message;
     protected boolean lockedFilter; // Helps to prevent "accidentally" modifying the StaticFilters objects
 
+    // fast version of predicates for match: flat array without allocations, cheap checks first
+    // (builds on lock or first usage, resets on any changes)
+    private transient volatile Predicate<? super E>[] compiledPredicates = null;
+
     @Override
     public abstract FilterImpl<E> copy();
 
@@ -30,22 +34,39 @@ public abstract class FilterImpl<E> implements Filter<E> {
         this.message = filter.message;
         this.predicates = new ArrayList<>(filter.predicates);
         this.lockedFilter = false;// After copying a filter it's allowed to modify
+        this.compiledPredicates = filter.compiledPredicates; // same predicates, so can share it (e.g. copy of StaticFilters)
     }
 
     @Override
     public boolean match(E e, Game game) {
         if (checkObjectClass(e)) {
-            return Predicates.and(predicates).apply(e, game);
+            for (Predicate<? super E> predicate : getCompiledPredicates()) {
+                if (!predicate.apply(e, game)) {
+                    return false;
+                }
+            }
+            return true;
         }
         return false;
     }
 
+    @SuppressWarnings("unchecked")
+    private Predicate<? super E>[] getCompiledPredicates() {
+        Predicate<? super E>[] res = this.compiledPredicates;
+        if (res == null) {
+            res = Predicates.orderByCheckCost(predicates).toArray(new Predicate[0]);
+            this.compiledPredicates = res;
+        }
+        return res;
+    }
+
     @Override
     public final Filter<E> add(Predicate<? super E> predicate) {
         if (isLockedFilter()) {
             throw new UnsupportedOperationException("You may not modify a locked filter");
         }
         predicates.add(predicate);
+        compiledPredicates = null;
         return this;
     }
 
@@ -75,6 +96,10 @@ public abstract class FilterImpl<E> implements Filter<E> {
     @Override
     public void setLockedFilter(boolean lockedFilter) {
         this.lockedFilter = lockedFilter;
+        if (lockedFilter) {
+            // static filters can't be changed, so compile it one time for all usages
+            getCompiledPredicates();
+        }
     }
 
     public List<Predicate<? super E>> getPredicates() {
@@ -21,6 +21,9 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
 
     protected final List<ObjectSourcePlayerPredicate<Permanent>> extraPredicates = new ArrayList<>();
 
+    // fast version of extra predicates for match (see FilterImpl)
+    private transient volatile ObjectSourcePlayerPredicate<Permanent>[] compiledExtraPredicates = null;
+
     public FilterPermanent() {
         super("permanent");
     }
@@ -48,6 +51,7 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
     protected FilterPermanent(final FilterPermanent filter) {
         super(filter);
         this.extraPredicates.addAll(filter.extraPredicates);
+        this.compiledExtraPredicates = filter.compiledExtraPredicates;
     }
 
     @Override
@@ -60,8 +64,27 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
         if (!this.match(permanent, game) || !permanent.isPhasedIn()) {
             return false;
         }
+        ObjectSourcePlayerPredicate<Permanent>[] predicates = getCompiledExtraPredicates();
+        if (predicates.length == 0) {
+            return true;
+        }
         ObjectSourcePlayer<Permanent> osp = new ObjectSourcePlayer<>(permanent, playerId, source);
-        return extraPredicates.stream().allMatch(p -> p.apply(osp, game));
+        for (ObjectSourcePlayerPredicate<Permanent> predicate : predicates) {
+            if (!predicate.apply(osp, game)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjectSourcePlayerPredicate<Permanent>[] getCompiledExtraPredicates() {
+        ObjectSourcePlayerPredicate<Permanent>[] res = this.compiledExtraPredicates;
+        if (res == null) {
+            res = Predicates.orderByCheckCost(extraPredicates).toArray(new ObjectSourcePlayerPredicate[0]);
+            this.compiledExtraPredicates = res;
+        }
+        return res;
     }
 
     public final void add(ObjectSourcePlayerPredicate predicate) {
@@ -73,6 +96,15 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
         Predicates.makeSurePredicateCompatibleWithFilter(predicate, Permanent.class);
 
         extraPredicates.add(predicate);
+        compiledExtraPredicates = null;
+    }
+
+    @Override
+    public void setLockedFilter(boolean lockedFilter) {
+        super.setLockedFilter(lockedFilter);
+        if (lockedFilter) {
+            getCompiledExtraPredicates();
+        }
     }
 
     @Override
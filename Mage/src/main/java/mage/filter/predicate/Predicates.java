@@ -1,11 +1,16 @@
 package mage.filter.predicate;
 
+import mage.constants.CardType;
+import mage.constants.TargetController;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.filter.predicate.permanent.ControllerIdPredicate;
 import mage.game.Game;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -227,6 +232,31 @@ public final class Predicates {
         return sb.toString();
     }
 
+    /**
+     * Order predicates for fast filter checks: cheap checks go first (card type, controller, color),
+     * other predicates keep original order
+     */
+    public static <T extends Predicate> List<T> orderByCheckCost(List<T> predicates) {
+        List<T> res = new ArrayList<>(predicates);
+        res.sort(Comparator.comparingInt(Predicates::getCheckCost)); // stable sort
+        return res;
+    }
+
+    private static int getCheckCost(Predicate predicate) {
+        if (predicate instanceof NotPredicate) {
+            return getCheckCost(((NotPredicate) predicate).predicate);
+        } else if (predicate instanceof CardType.CardTypePredicate) {
+            return 0;
+        } else if (predicate instanceof ControllerIdPredicate
+                || predicate instanceof TargetController.ControllerPredicate) {
+            return 1;
+        } else if (predicate instanceof ColorPredicate) {
+            return 2;
+        } else {
+            return 3;
+        }
+    }
+
     /**
      * Collect real predicates for searching some data (see dependency effect code)
      */
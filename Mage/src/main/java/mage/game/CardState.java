@@ -49,6 +49,19 @@ public class CardState implements Serializable, Copyable<CardState> {
         return new CardState(this);
     }
 
+    /**
+     * Snapshot related: compare with another card state (states with added abilities are never same)
+     */
+    public boolean isSameContent(CardState state) {
+        return this.faceDown == state.faceDown
+                && this.lostAllAbilities == state.lostAllAbilities
+                && this.melded == state.melded
+                && this.abilities == null
+                && state.abilities == null
+                && this.getInfo().equals(state.getInfo())
+                && this.counters.equals(state.counters);
+    }
+
     public void setFaceDown(boolean value) {
         faceDown = value;
     }
@@ -154,6 +154,22 @@ public class Exile implements Serializable, Copyable<Exile> {
         moveToAnotherZone(card, game, getExileZone(PERMANENT));
     }
 
+    /**
+     * Snapshot related: compare zones and cards order with another exile (without cards data)
+     */
+    public boolean isSameContent(Exile exile) {
+        if (exile == null || exileZones.size() != exile.exileZones.size()) {
+            return false;
+        }
+        for (Entry<UUID, ExileZone> entry : exileZones.entrySet()) {
+            ExileZone otherZone = exile.exileZones.get(entry.getKey());
+            if (otherZone == null || !entry.getValue().isSameContent(otherZone)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public Exile copy() {
         return new Exile(this);
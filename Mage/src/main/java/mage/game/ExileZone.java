@@ -2,6 +2,7 @@ package mage.game;
 
 import mage.cards.CardsImpl;
 
+import java.util.Iterator;
 import java.util.UUID;
 
 /**
@@ -42,6 +43,23 @@ public class ExileZone extends CardsImpl {
         this.cleanupOnEndTurn = cleanupOnEndTurn;
     }
 
+    public boolean isSameContent(ExileZone zone) {
+        if (!this.id.equals(zone.id)
+                || !this.name.equals(zone.name)
+                || this.cleanupOnEndTurn != zone.cleanupOnEndTurn
+                || this.size() != zone.size()) {
+            return false;
+        }
+        // cards order must be same too (it's used for exile windows)
+        Iterator<UUID> otherCards = zone.iterator();
+        for (UUID cardId : this) {
+            if (!cardId.equals(otherCards.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public ExileZone copy() {
         return new ExileZone(this);
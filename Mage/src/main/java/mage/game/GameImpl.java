@@ -4025,7 +4025,8 @@ public abstract class GameImpl implements Game {
             if (toDelete > 0) {
                 gameStatesRollBack.remove(toDelete);
             }
-            gameStatesRollBack.put(getTurnNum(), state.copy());
+            // unchanged parts are shared with previous turn's state
+            gameStatesRollBack.put(getTurnNum(), state.copySnapshot(gameStatesRollBack.get(getTurnNum() - 1)));
         }
     }
 
@@ -42,6 +42,7 @@ import org.apache.log4j.Logger;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -116,6 +117,27 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     private int applyEffectsCounter; // Upcounting number of each applyEffects execution
 
+    // unique number of the current state data, changes on any game event, effects apply, priority change or restore
+    // (helps to cache calculations between state changes, e.g. playable abilities)
+    private static final AtomicLong stateVersionGenerator = new AtomicLong();
+    private long stateVersion;
+
+    // snapshot related: sub-structures shared with a previous snapshot (copy-on-write, see GameStates),
+    // shared parts must be copied on restore
+    private static final int SHARED_EXILE = 1;
+    private static final int SHARED_ZONES = 1 << 1;
+    private static final int SHARED_ZONE_CHANGE_COUNTER = 1 << 2;
+    private static final int SHARED_COPIED_CARDS = 1 << 3;
+    private static final int SHARED_STACK = 1 << 4;
+    private static final int SHARED_EFFECTS = 1 << 5;
+    private static final int SHARED_TRIGGERS = 1 << 6;
+    private static final int SHARED_DELAYED = 1 << 7;
+    private static final int SHARED_WATCHERS = 1 << 8;
+    private static final int SHARED_VALUES = 1 << 9;
+    private int sharedParts = 0;
+    private final Set<UUID> sharedPermanents = new HashSet<>();
+    private final Set<UUID> sharedCardStates = new HashSet<>();
+
     public GameState() {
         players = new Players();
         playerList = new PlayerList();
@@ -134,9 +156,25 @@ public class GameState implements Serializable, Copyable<GameState> {
         turnMods = new TurnMods();
         watchers = new Watchers();
         applyEffectsCounter = 0;
+        stateVersion = stateVersionGenerator.incrementAndGet();
     }
 
     protected GameState(final GameState state) {
+        this(state, null, null, null);
+    }
+
+    /**
+     * Snapshot copy: unchanged sub-structures are shared with the previous snapshot instead of deep copy.
+     * Shared parts must never be modified, so restore code makes a private copy of it (see restore)
+     *
+     * @param state        state to copy
+     * @param previous     previous snapshot of the same game (can be null)
+     * @param previousData serialized parts of the previous snapshot (can be null, then permanents, stack, effects,
+     *                     triggers, watchers and values are copied)
+     * @param data         serialized parts of the state to copy (can be null)
+     */
+    protected GameState(final GameState state, final GameState previous,
+                        final GameStateSnapshotData previousData, final GameStateSnapshotData data) {
         this.players = state.players.copy();
         this.playerList = state.playerList.copy();
         this.choosingPlayerId = state.choosingPlayerId;
@@ -153,35 +191,115 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.initiativeId = state.initiativeId;
         this.turn = state.turn.copy();
 
-        this.stack = state.stack.copy();
+        if (isSamePart(previous, previousData, data, GameStateSnapshotData.PART_STACK)) {
+            this.stack = previous.stack;
+            this.sharedParts |= SHARED_STACK;
+        } else {
+            this.stack = state.stack.copy();
+        }
         this.command = state.command.copy();
         this.isPlaneChase = state.isPlaneChase;
         this.seenPlanes.addAll(state.seenPlanes);
         this.designations.addAll(state.designations);
         this.helperEmblems = CardUtil.deepCopyObject(state.helperEmblems);
-        this.exile = state.exile.copy();
-        this.battlefield = state.battlefield.copy();
+        if (previous != null && previous.exile != state.exile && state.exile.isSameContent(previous.exile)) {
+            this.exile = previous.exile;
+            this.sharedParts |= SHARED_EXILE;
+        } else {
+            this.exile = state.exile.copy();
+        }
+        if (previous != null && previousData != null && data != null) {
+            // most of permanents keep same state between snapshots, so it can be shared one by one
+            Map<UUID, Permanent> samePermanents = new HashMap<>();
+            for (Permanent permanent : state.battlefield.getAllPermanents()) {
+                Permanent previousPermanent = previous.battlefield.getPermanent(permanent.getId());
+                if (previousPermanent != null && previousPermanent != permanent
+                        && data.isSamePermanent(previousData, permanent.getId())) {
+                    samePermanents.put(permanent.getId(), previousPermanent);
+                }
+            }
+            this.battlefield = state.battlefield.copy(samePermanents);
+            this.sharedPermanents.addAll(samePermanents.keySet());
+        } else {
+            this.battlefield = state.battlefield.copy();
+        }
         this.turnNum = state.turnNum;
         this.stepNum = state.stepNum;
         this.extraTurnId = state.extraTurnId;
-        this.effects = state.effects.copy();
+        if (isSamePart(previous, previousData, data, GameStateSnapshotData.PART_EFFECTS)) {
+            this.effects = previous.effects;
+            this.sharedParts |= SHARED_EFFECTS;
+        } else {
+            this.effects = state.effects.copy();
+        }
         this.triggered = CardUtil.deepCopyObject(state.triggered);
-        this.triggers = state.triggers.copy();
-        this.delayed = state.delayed.copy();
+        if (isSamePart(previous, previousData, data, GameStateSnapshotData.PART_TRIGGERS)) {
+            this.triggers = previous.triggers;
+            this.sharedParts |= SHARED_TRIGGERS;
+        } else {
+            this.triggers = state.triggers.copy();
+        }
+        if (isSamePart(previous, previousData, data, GameStateSnapshotData.PART_DELAYED)) {
+            this.delayed = previous.delayed;
+            this.sharedParts |= SHARED_DELAYED;
+        } else {
+            this.delayed = state.delayed.copy();
+        }
         this.specialActions = state.specialActions.copy();
         this.combat = state.combat.copy();
         this.turnMods = state.turnMods.copy();
-        this.watchers = state.watchers.copy();
-        this.values = CardUtil.deepCopyObject(state.values);
-        this.zones.putAll(state.zones);
+        if (isSamePart(previous, previousData, data, GameStateSnapshotData.PART_WATCHERS)) {
+            this.watchers = previous.watchers;
+            this.sharedParts |= SHARED_WATCHERS;
+        } else {
+            this.watchers = state.watchers.copy();
+        }
+        if (isSamePart(previous, previousData, data, GameStateSnapshotData.PART_VALUES)) {
+            this.values = previous.values;
+            this.sharedParts |= SHARED_VALUES;
+        } else {
+            this.values = CardUtil.deepCopyObject(state.values);
+        }
+        if (previous != null && previous.zones != state.zones && previous.zones.equals(state.zones)) {
+            this.zones = previous.zones;
+            this.sharedParts |= SHARED_ZONES;
+        } else {
+            this.zones.putAll(state.zones);
+        }
         this.simultaneousEvents.addAll(state.simultaneousEvents);
-        this.cardState = CardUtil.deepCopyObject(state.cardState);
+        if (previous != null && previous.cardState != state.cardState) {
+            // most of cards keep same state (counters, info), so it can be shared one by one
+            this.cardState = new HashMap<>(state.cardState.size());
+            for (Map.Entry<UUID, CardState> entry : state.cardState.entrySet()) {
+                CardState previousCardState = previous.cardState.get(entry.getKey());
+                if (previousCardState != null && previousCardState != entry.getValue()
+                        && entry.getValue().isSameContent(previousCardState)) {
+                    this.cardState.put(entry.getKey(), previousCardState);
+                    this.sharedCardStates.add(entry.getKey());
+                } else {
+                    this.cardState.put(entry.getKey(), entry.getValue().copy());
+                }
+            }
+        } else {
+            this.cardState = CardUtil.deepCopyObject(state.cardState);
+        }
         this.permanentCostsTags = CardUtil.deepCopyObject(state.permanentCostsTags);
         this.mageObjectAttribute = CardUtil.deepCopyObject(state.mageObjectAttribute);
-        this.zoneChangeCounter.putAll(state.zoneChangeCounter);
-        this.copiedCards.putAll(state.copiedCards);
+        if (previous != null && previous.zoneChangeCounter != state.zoneChangeCounter && previous.zoneChangeCounter.equals(state.zoneChangeCounter)) {
+            this.zoneChangeCounter = previous.zoneChangeCounter;
+            this.sharedParts |= SHARED_ZONE_CHANGE_COUNTER;
+        } else {
+            this.zoneChangeCounter.putAll(state.zoneChangeCounter);
+        }
+        if (previous != null && previous.copiedCards != state.copiedCards && previous.copiedCards.equals(state.copiedCards)) {
+            this.copiedCards = previous.copiedCards;
+            this.sharedParts |= SHARED_COPIED_CARDS;
+        } else {
+            this.copiedCards.putAll(state.copiedCards);
+        }
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.stateVersion = state.stateVersion;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay.addAll(state.commandersToStay);
@@ -237,45 +355,66 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void restore(GameState state) {
         // no needs in copy here cause GameState already copied on save and it will be used only one time here
+        // (except snapshots with shared parts - it can be used by other snapshots too, so it must be copied before usage)
         this.activePlayerId = state.activePlayerId;
         this.playerList.setCurrent(state.activePlayerId);
         this.playerByOrderId = state.playerByOrderId;
         this.priorityPlayerId = state.priorityPlayerId;
         this.monarchId = state.monarchId;
         this.initiativeId = state.initiativeId;
-        this.stack = state.stack;
+        this.stack = state.isSharedPart(SHARED_STACK) ? state.stack.copy() : state.stack;
         this.command = state.command;
         this.isPlaneChase = state.isPlaneChase;
         this.seenPlanes = state.seenPlanes;
         this.designations = state.designations;
         this.helperEmblems = state.helperEmblems;
-        this.exile = state.exile;
-        this.battlefield = state.battlefield;
+        this.exile = state.isSharedPart(SHARED_EXILE) ? state.exile.copy() : state.exile;
+        if (state.sharedPermanents.isEmpty()) {
+            this.battlefield = state.battlefield;
+        } else {
+            // only shared permanents must be copied
+            Map<UUID, Permanent> ownPermanents = new HashMap<>(state.battlefield.getPermanentsEntering());
+            for (Permanent permanent : state.battlefield.getAllPermanents()) {
+                if (!state.sharedPermanents.contains(permanent.getId())) {
+                    ownPermanents.put(permanent.getId(), permanent);
+                }
+            }
+            this.battlefield = state.battlefield.copy(ownPermanents);
+        }
         this.turnNum = state.turnNum;
         this.stepNum = state.stepNum;
         this.extraTurnId = state.extraTurnId;
-        this.effects = state.effects;
+        this.effects = state.isSharedPart(SHARED_EFFECTS) ? state.effects.copy() : state.effects;
         this.triggered = state.triggered;
-        this.triggers = state.triggers;
-        this.delayed = state.delayed;
+        this.triggers = state.isSharedPart(SHARED_TRIGGERS) ? state.triggers.copy() : state.triggers;
+        this.delayed = state.isSharedPart(SHARED_DELAYED) ? state.delayed.copy() : state.delayed;
         this.specialActions = state.specialActions;
         this.combat = state.combat;
         this.turnMods = state.turnMods;
-        this.watchers = state.watchers;
-        this.values = state.values;
+        this.watchers = state.isSharedPart(SHARED_WATCHERS) ? state.watchers.copy() : state.watchers;
+        this.values = state.isSharedPart(SHARED_VALUES) ? CardUtil.deepCopyObject(state.values) : state.values;
         for (Player copyPlayer : state.players.values()) {
             Player origPlayer = players.get(copyPlayer.getId());
             origPlayer.restore(copyPlayer);
         }
-        this.zones = state.zones;
+        this.zones = state.isSharedPart(SHARED_ZONES) ? new HashMap<>(state.zones) : state.zones;
         this.simultaneousEvents = state.simultaneousEvents;
-        this.cardState = state.cardState;
+        if (state.sharedCardStates.isEmpty()) {
+            this.cardState = state.cardState;
+        } else {
+            // only shared cards state must be copied
+            this.cardState = new HashMap<>(state.cardState);
+            for (UUID cardId : state.sharedCardStates) {
+                this.cardState.put(cardId, state.cardState.get(cardId).copy());
+            }
+        }
         this.permanentCostsTags = state.permanentCostsTags;
         this.mageObjectAttribute = state.mageObjectAttribute;
-        this.zoneChangeCounter = state.zoneChangeCounter;
-        this.copiedCards = state.copiedCards;
+        this.zoneChangeCounter = state.isSharedPart(SHARED_ZONE_CHANGE_COUNTER) ? new HashMap<>(state.zoneChangeCounter) : state.zoneChangeCounter;
+        this.copiedCards = state.isSharedPart(SHARED_COPIED_CARDS) ? new HashMap<>(state.copiedCards) : state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.stateVersion = stateVersionGenerator.incrementAndGet();
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay = state.commandersToStay;
@@ -289,6 +428,45 @@ public class GameState implements Serializable, Copyable<GameState> {
         return new GameState(this);
     }
 
+    /**
+     * Snapshot copy for game history, see GameStates
+     *
+     * @param previous last saved snapshot (can be null)
+     */
+    public GameState copySnapshot(GameState previous) {
+        return new GameState(this, previous, null, null);
+    }
+
+    /**
+     * Snapshot copy for game history, see GameStates
+     *
+     * @param previous     last saved snapshot (can be null)
+     * @param previousData serialized parts of the last saved snapshot (can be null)
+     * @param data         serialized parts of the current state, see createSnapshotData
+     */
+    GameState copySnapshot(GameState previous, GameStateSnapshotData previousData, GameStateSnapshotData data) {
+        return new GameState(this, previous, previousData, data);
+    }
+
+    /**
+     * Snapshot related: serialized parts of the current state to find unchanged parts for the next snapshot
+     */
+    GameStateSnapshotData createSnapshotData() {
+        return new GameStateSnapshotData(battlefield, stack, effects, triggers, delayed, watchers, values);
+    }
+
+    public boolean isSharedSnapshot() {
+        return sharedParts != 0 || !sharedPermanents.isEmpty() || !sharedCardStates.isEmpty();
+    }
+
+    private boolean isSharedPart(int part) {
+        return (sharedParts & part) != 0;
+    }
+
+    private static boolean isSamePart(GameState previous, GameStateSnapshotData previousData, GameStateSnapshotData data, int part) {
+        return previous != null && previousData != null && data != null && data.isSamePart(previousData, part);
+    }
+
     public void addPlayer(Player player) {
         players.put(player.getId(), player);
         playerList.add(player.getId());
@@ -477,6 +655,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void setPriorityPlayerId(UUID priorityPlayerId) {
         this.priorityPlayerId = priorityPlayerId;
+        this.stateVersion = stateVersionGenerator.incrementAndGet();
     }
 
     public UUID getMonarchId() {
@@ -667,6 +846,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     void applyEffects(Game game) {
         applyEffectsCounter++;
+        stateVersion = stateVersionGenerator.incrementAndGet();
         for (Player player : players.values()) {
             player.reset();
         }
@@ -1037,6 +1217,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        stateVersion = stateVersionGenerator.incrementAndGet();
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -1047,6 +1228,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public boolean replaceEvent(GameEvent event, Ability targetAbility, Game game) {
+        stateVersion = stateVersionGenerator.incrementAndGet();
         if (effects.preventedByRuleModification(event, targetAbility, game, false)) {
             return true;
         }
@@ -1695,6 +1877,15 @@ public class GameState implements Serializable, Copyable<GameState> {
         return applyEffectsCounter;
     }
 
+    /**
+     * Unique number of the current state data. Same number means no game events,
+     * effects apply, priority changes or restores since the last check, so calculated
+     * data (e.g. playable abilities) can be used again
+     */
+    public long getStateVersion() {
+        return stateVersion;
+    }
+
     public void addPowerInsteadOfToughnessForDamageLethalityFilter(UUID source, FilterCreaturePermanent filter) {
         usePowerInsteadOfToughnessForDamageLethalityFilters.put(source, filter);
     }
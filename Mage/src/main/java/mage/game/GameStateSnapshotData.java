@@ -0,0 +1,73 @@
+package mage.game;
+
+import mage.abilities.DelayedTriggeredAbilities;
+import mage.abilities.TriggeredAbilities;
+import mage.abilities.effects.ContinuousEffects;
+import mage.game.permanent.Battlefield;
+import mage.game.permanent.Permanent;
+import mage.game.stack.SpellStack;
+import mage.util.FastByteArrayOutputStream;
+import mage.watchers.Watchers;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Game history related: serialized data of the big game state parts (permanents, stack, effects, triggers, watchers, values).
+ * These parts have no equals support, so unchanged parts are searched by serialized data and shared with the previous
+ * snapshot (see GameState.copySnapshot). Game history keeps that data for the last snapshot only.
+ */
+class GameStateSnapshotData {
+
+    static final int PART_STACK = 0;
+    static final int PART_EFFECTS = 1;
+    static final int PART_TRIGGERS = 2;
+    static final int PART_DELAYED = 3;
+    static final int PART_WATCHERS = 4;
+    static final int PART_VALUES = 5;
+
+    private final Map<UUID, byte[]> permanents = new HashMap<>();
+    private final byte[][] parts;
+
+    GameStateSnapshotData(Battlefield battlefield, SpellStack stack, ContinuousEffects effects, TriggeredAbilities triggers,
+                          DelayedTriggeredAbilities delayed, Watchers watchers, Map<String, Object> values) {
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            this.permanents.put(permanent.getId(), serialize(permanent));
+        }
+        this.parts = new byte[][]{
+                serialize(stack),
+                serialize(effects),
+                serialize(triggers),
+                serialize(delayed),
+                serialize(watchers),
+                serialize(values)
+        };
+    }
+
+    boolean isSamePermanent(GameStateSnapshotData previous, UUID permanentId) {
+        return isSameData(this.permanents.get(permanentId), previous.permanents.get(permanentId));
+    }
+
+    boolean isSamePart(GameStateSnapshotData previous, int part) {
+        return isSameData(this.parts[part], previous.parts[part]);
+    }
+
+    private static boolean isSameData(byte[] data, byte[] previousData) {
+        return data != null && previousData != null && Arrays.equals(data, previousData);
+    }
+
+    private static byte[] serialize(Object object) {
+        FastByteArrayOutputStream data = new FastByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(data)) {
+            out.writeObject(object);
+        } catch (IOException e) {
+            // can't compare it, so that part will be copied
+            return null;
+        }
+        return Arrays.copyOf(data.getByteArray(), data.getSize());
+    }
+}
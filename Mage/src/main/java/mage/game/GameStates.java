@@ -1,29 +1,62 @@
-
 package mage.game;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+
+import mage.util.metrics.Histogram;
+import mage.util.metrics.MetricsRegistry;
 import org.apache.log4j.Logger;
 
 /**
+ * Game history (used by bookmarks/undo and replays)
+ * <p>
+ * Each state stored as a full object, but unchanged parts are shared with the previous saved state
+ * (structural delta, see GameState.copySnapshot), so history memory grows by changed parts only
+ * and any state can be restored without rebuilding. Parts without equals support (permanents, effects,
+ * triggers, watchers, etc) are compared by serialized data of the last saved state.
  *
  * @author BetaSteward_at_googlemail.com
  */
 public class GameStates implements Serializable {
 
     private static final Logger logger = Logger.getLogger(GameStates.class);
+    private static final Histogram retainedStatesMetric = MetricsRegistry.instance.histogram("game.states.retained");
     private final List<GameState> states;
 
+    // share unchanged parts between consecutive snapshots instead full copy (see GameState.copySnapshot)
+    private final boolean structuralSharing;
+    private transient GameState lastSnapshot;
+    private transient GameStateSnapshotData lastSnapshotData; // serialized parts of the last snapshot
+
     public GameStates() {
+        this(true);
+    }
+
+    public GameStates(boolean structuralSharing) {
         this.states = new ArrayList<>();
+        this.structuralSharing = structuralSharing;
     }
 
     public void save(GameState gameState) {
-        states.add(gameState.copy());
+        if (structuralSharing) {
+            GameState previous = states.isEmpty() ? null : states.get(states.size() - 1);
+            GameStateSnapshotData data = gameState.createSnapshotData();
+            GameState snapshot = gameState.copySnapshot(previous, previous != null && previous == lastSnapshot ? lastSnapshotData : null, data);
+            states.add(snapshot);
+            lastSnapshot = snapshot;
+            lastSnapshotData = data;
+        } else {
+            states.add(gameState.copy());
+        }
+        retainedStatesMetric.record(states.size());
         //logger.warn("states size: " + states.size());
     }
 
+    public boolean isStructuralSharing() {
+        return structuralSharing;
+    }
+
     public int getSize() {
         return states.size();
     }
@@ -34,6 +67,8 @@ public class GameStates implements Serializable {
                 states.remove(states.size() - 1);
             }
             logger.trace("Rolling back state: " + index);
+            // restored state will be used by the game, so next snapshots can't share its parts
+            resetLastSnapshot();
             return states.get(index);
         }
         return null;
@@ -44,6 +79,7 @@ public class GameStates implements Serializable {
             while (states.size() > index && !states.isEmpty()) {
                 states.remove(states.size() - 1);
             }
+            resetLastSnapshot();
         }
         return states.size();
     }
@@ -57,5 +93,11 @@ public class GameStates implements Serializable {
 
     public void clear() {
         states.clear();
+        resetLastSnapshot();
+    }
+
+    private void resetLastSnapshot() {
+        lastSnapshot = null;
+        lastSnapshotData = null;
     }
 }
@@ -0,0 +1,76 @@
+package mage.game.events;
+
+import mage.abilities.TriggeredAbility;
+import mage.game.Game;
+import mage.watchers.Watcher;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Event routing for watchers and triggered abilities: each event goes only to the objects
+ * with declared event types (see getWatchedEventTypes) or to the objects without declaration.
+ * <p>
+ * Declaration is used only if it was made in the same class as the event check method,
+ * so a subclass with own checkEventType/watch code and without own declaration will get all events.
+ */
+public final class GameEventRouting {
+
+    // class -> declaration can be used
+    private static final Map<Class<?>, Boolean> trustedTriggers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Boolean> trustedWatchers = new ConcurrentHashMap<>();
+
+    private GameEventRouting() {
+    }
+
+    /**
+     * @return supported event types or null for any events
+     */
+    public static Set<GameEvent.EventType> getEventTypes(TriggeredAbility ability) {
+        Set<GameEvent.EventType> types = ability.getWatchedEventTypes();
+        if (types == null) {
+            return null;
+        }
+        boolean trusted = trustedTriggers.computeIfAbsent(ability.getClass(), clazz -> isDeclaredInSameClass(
+                clazz, "checkEventType", new Class<?>[]{GameEvent.class, Game.class}));
+        return trusted ? types : null;
+    }
+
+    /**
+     * @return supported event types or null for any events
+     */
+    public static Set<GameEvent.EventType> getEventTypes(Watcher watcher) {
+        Set<GameEvent.EventType> types = watcher.getWatchedEventTypes();
+        if (types == null) {
+            return null;
+        }
+        boolean trusted = trustedWatchers.computeIfAbsent(watcher.getClass(), clazz -> isDeclaredInSameClass(
+                clazz, "watch", new Class<?>[]{GameEvent.class, Game.class}));
+        return trusted ? types : null;
+    }
+
+    /**
+     * Select all objects for the event type, keeps original order
+     */
+    public static <T> List<T> select(Collection<T> objects, GameEvent.EventType eventType, Function<T, Set<GameEvent.EventType>> typesGetter) {
+        List<T> res = new ArrayList<>();
+        for (T object : objects) {
+            Set<GameEvent.EventType> types = typesGetter.apply(object);
+            if (types == null || types.contains(eventType)) {
+                res.add(object);
+            }
+        }
+        return res;
+    }
+
+    private static boolean isDeclaredInSameClass(Class<?> clazz, String checkMethodName, Class<?>[] checkMethodParams) {
+        try {
+            Class<?> checkClass = clazz.getMethod(checkMethodName, checkMethodParams).getDeclaringClass();
+            Class<?> declareClass = clazz.getMethod("getWatchedEventTypes").getDeclaringClass();
+            return checkClass.equals(declareClass);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -18,6 +18,8 @@ import mage.util.ThreadUtils;
 import org.apache.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -44,6 +46,10 @@ public abstract class MatchImpl implements Match {
 
     protected boolean replayAvailable;
 
+    // sideboarding waits in game thread, so it uses lock instead synchronized/wait (virtual game threads must not pin a carrier thread)
+    private final ReentrantLock sideboardingLock = new ReentrantLock();
+    private final Condition sideboardingChanged = sideboardingLock.newCondition();
+
     public MatchImpl(MatchOptions options) {
         this.options = options;
         this.startTime = new Date(); // to avaoid null pointer exceptions
@@ -81,9 +87,7 @@ public abstract class MatchImpl implements Match {
                 return players.remove(mPlayer);
             }
             mPlayer.setQuit(true);
-            synchronized (this) {
-                this.notifyAll();
-            }
+            signalSideboardingChanged();
             checkIfMatchEnds();
             return true;
         }
@@ -336,13 +340,25 @@ public abstract class MatchImpl implements Match {
                 }
             }
         }
-        synchronized (this) {
+        sideboardingLock.lock();
+        try {
             while (!isDoneSideboarding()) {
                 try {
-                    this.wait();
+                    sideboardingChanged.await();
                 } catch (InterruptedException ignore) {
                 }
             }
+        } finally {
+            sideboardingLock.unlock();
+        }
+    }
+
+    private void signalSideboardingChanged() {
+        sideboardingLock.lock();
+        try {
+            sideboardingChanged.signalAll();
+        } finally {
+            sideboardingLock.unlock();
         }
     }
 
@@ -387,9 +403,7 @@ public abstract class MatchImpl implements Match {
             deck.setName(player.getDeck().getName());
             player.submitDeck(deck);
         }
-        synchronized (this) {
-            this.notifyAll();
-        }
+        signalSideboardingChanged();
     }
 
     @Override
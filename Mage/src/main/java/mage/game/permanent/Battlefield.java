@@ -20,22 +20,47 @@ public class Battlefield implements Serializable {
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
     private final Map<UUID, Permanent> permanentsEntering = new LinkedHashMap<>();
 
+    // permanents by controller in battlefield order, lazy (see getControlledPermanents)
+    // control can be changed by many ways (effects, reset, exchange), so index remembers indexed controllers
+    // and rebuilds on any difference
+    private transient Map<UUID, List<Permanent>> controllerIndex = null;
+    private transient Permanent[] indexedPermanents = null;
+    private transient UUID[] indexedControllers = null;
+
     public Battlefield() {
     }
 
     protected Battlefield(final Battlefield battlefield) {
+        this(battlefield, Collections.emptyMap());
+    }
+
+    protected Battlefield(final Battlefield battlefield, Map<UUID, Permanent> sharedPermanents) {
         for (Entry<UUID, Permanent> entry : battlefield.field.entrySet()) {
-            field.put(entry.getKey(), entry.getValue().copy());
+            field.put(entry.getKey(), copyPermanent(entry.getValue(), sharedPermanents));
         }
         for (Entry<UUID, Permanent> entry : battlefield.permanentsEntering.entrySet()) {
-            permanentsEntering.put(entry.getKey(), entry.getValue().copy());
+            permanentsEntering.put(entry.getKey(), copyPermanent(entry.getValue(), sharedPermanents));
         }
     }
 
+    private static Permanent copyPermanent(Permanent permanent, Map<UUID, Permanent> sharedPermanents) {
+        Permanent sharedPermanent = sharedPermanents.get(permanent.getId());
+        return sharedPermanent != null ? sharedPermanent : permanent.copy();
+    }
+
     public Battlefield copy() {
         return new Battlefield(this);
     }
 
+    /**
+     * Game history related: copy with shared permanents instead of its copies (see GameState.copySnapshot)
+     *
+     * @param sharedPermanents permanents to use as is, by id
+     */
+    public Battlefield copy(Map<UUID, Permanent> sharedPermanents) {
+        return new Battlefield(this, sharedPermanents);
+    }
+
     public void reset(Game game) {
         for (Permanent perm : field.values()) {
             perm.reset(game);
@@ -48,6 +73,51 @@ public class Battlefield implements Serializable {
     public void clear() {
         field.clear();
         permanentsEntering.clear();
+        invalidateIndexes();
+    }
+
+    private void invalidateIndexes() {
+        controllerIndex = null;
+        indexedPermanents = null;
+        indexedControllers = null;
+    }
+
+    private boolean isControllerIndexValid() {
+        if (controllerIndex == null) {
+            return false;
+        }
+        for (int i = 0; i < indexedPermanents.length; i++) {
+            UUID controllerId = indexedPermanents[i].getControllerId();
+            if (controllerId != indexedControllers[i] && !Objects.equals(controllerId, indexedControllers[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns all permanents (include phased out) controlled by controllerId in battlefield order
+     */
+    private List<Permanent> getControlledPermanents(UUID controllerId) {
+        if (controllerId == null) {
+            return Collections.emptyList();
+        }
+        if (!isControllerIndexValid()) {
+            Map<UUID, List<Permanent>> newIndex = new HashMap<>();
+            Permanent[] newPermanents = new Permanent[field.size()];
+            UUID[] newControllers = new UUID[field.size()];
+            int i = 0;
+            for (Permanent permanent : field.values()) {
+                newPermanents[i] = permanent;
+                newControllers[i] = permanent.getControllerId();
+                newIndex.computeIfAbsent(permanent.getControllerId(), x -> new ArrayList<>()).add(permanent);
+                i++;
+            }
+            controllerIndex = newIndex;
+            indexedPermanents = newPermanents;
+            indexedControllers = newControllers;
+        }
+        return controllerIndex.getOrDefault(controllerId, Collections.emptyList());
     }
 
     /**
@@ -59,13 +129,13 @@ public class Battlefield implements Serializable {
      * can use count() instead of countAll()
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
-        return (int) field.values()
-                .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, game)
-                        && permanent.isPhasedIn())
-                .count();
-
+        int count = 0;
+        for (Permanent permanent : getControlledPermanents(controllerId)) {
+            if (filter.match(permanent, game) && permanent.isPhasedIn()) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -101,10 +171,9 @@ public class Battlefield implements Serializable {
      * @param controllerId controller and source can be different (from different players)
      */
     public boolean containsControlled(FilterPermanent filter, UUID controllerId, Ability source, Game game, int num) {
-        return field.values()
+        return getControlledPermanents(controllerId)
                 .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, controllerId, source, game)
+                .filter(permanent -> filter.match(permanent, controllerId, source, game)
                         && permanent.isPhasedIn())
                 .count() >= num;
     }
@@ -136,6 +205,7 @@ public class Battlefield implements Serializable {
 
     public void addPermanent(Permanent permanent) {
         field.put(permanent.getId(), permanent);
+        invalidateIndexes();
     }
 
     /**
@@ -151,7 +221,9 @@ public class Battlefield implements Serializable {
     }
 
     public void removePermanent(UUID key) {
-        field.remove(key);
+        if (field.remove(key) != null) {
+            invalidateIndexes();
+        }
     }
 
     /**
@@ -197,10 +269,9 @@ public class Battlefield implements Serializable {
      * the specified player id. The method ignores the range of influence.
      */
     public List<Permanent> getAllActivePermanents(UUID controllerId) {
-        return field.values()
+        return getControlledPermanents(controllerId)
                 .stream()
-                .filter(perm -> perm.isPhasedIn()
-                        && perm.isControlledBy(controllerId))
+                .filter(Permanent::isPhasedIn)
                 .collect(Collectors.toList());
     }
 
@@ -237,9 +308,9 @@ public class Battlefield implements Serializable {
      * ObjectSourcePlayer predicates in the filter
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
-        return field.values()
+        return getControlledPermanents(controllerId)
                 .stream()
-                .filter(perm -> perm.isPhasedIn() && perm.isControlledBy(controllerId) && filter.match(perm, game))
+                .filter(perm -> perm.isPhasedIn() && filter.match(perm, game))
                 .collect(Collectors.toList());
     }
 
@@ -292,11 +363,10 @@ public class Battlefield implements Serializable {
      * Returns controlled permanents with phasing ability that are phased in, so that they can be phased out
      */
     public List<Permanent> getPhasingOut(Game game, UUID controllerId) {
-        return field.values()
+        return getControlledPermanents(controllerId)
                 .stream()
                 .filter(perm -> perm.hasAbility(PhasingAbility.getInstance(), game)
-                        && perm.isPhasedIn()
-                        && perm.isControlledBy(controllerId))
+                        && perm.isPhasedIn())
                 .collect(Collectors.toList());
     }
 
@@ -304,9 +374,9 @@ public class Battlefield implements Serializable {
      * Returns controlled permanents that are phased out, so that they can be phased in
      */
     public List<Permanent> getPhasedOut(UUID controllerId) {
-        return field.values()
+        return getControlledPermanents(controllerId)
                 .stream()
-                .filter(perm -> !perm.isPhasedIn() && perm.isControlledBy(controllerId))
+                .filter(perm -> !perm.isPhasedIn())
                 .collect(Collectors.toList());
     }
 
@@ -334,14 +404,10 @@ public class Battlefield implements Serializable {
     }
 
     public int countTokens(UUID controllerId) {
-        return field
-                .values()
+        return (int) getControlledPermanents(controllerId)
                 .stream()
-                .filter(Objects::nonNull)
                 .filter(PermanentToken.class::isInstance)
-                .map(permanent -> permanent.isControlledBy(controllerId))
-                .mapToInt(x -> x ? 1 : 0)
-                .sum();
+                .count();
     }
 
     @Override
@@ -17,6 +17,9 @@ import java.util.UUID;
  */
 public abstract class TournamentSwiss extends TournamentImpl {
 
+    // minimal weight matching uses O(n^2) memory, so simple pairing used for giant tourneys only
+    private static final int MAX_PLAYERS_FOR_MINIMAL_WEIGHT_MATCHING = 512;
+
     public TournamentSwiss(TournamentOptions options) {
         super(options);
     }
@@ -63,7 +66,7 @@ public abstract class TournamentSwiss extends TournamentImpl {
         Round round = null;
 
         RoundPairings roundPairings;
-        if (roundPlayers.size() <= 16) {
+        if (roundPlayers.size() <= MAX_PLAYERS_FOR_MINIMAL_WEIGHT_MATCHING) {
             SwissPairingMinimalWeightMatching swissPairing = new SwissPairingMinimalWeightMatching(roundPlayers, rounds, isLastRound);
             roundPairings = swissPairing.getRoundPairings();
         } else {
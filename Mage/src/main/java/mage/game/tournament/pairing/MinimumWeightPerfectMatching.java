@@ -0,0 +1,414 @@
+package mage.game.tournament.pairing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Minimum weight perfect matching in a complete graph, Edmonds' blossom algorithm (primal-dual version), O(n^3).
+ * <p>
+ * Algorithm searches maximum weight matching for inverted weights (max weight - weight + 1). All inverted
+ * weights are positive, so maximum weight matching in a complete graph with even vertexes is a perfect matching
+ * and it has minimal original weight (all perfect matchings have same edges count).
+ * <p>
+ * Inner code uses 1-based vertexes, vertexes after n are blossoms
+ */
+public final class MinimumWeightPerfectMatching {
+
+    private final int n;
+    private int nx; // vertexes and blossoms
+
+    // edges: weight (0 - no edge) and real ends (blossom's edge keeps original vertexes)
+    private final long[][] edgeWeight;
+    private final int[][] edgeFrom;
+    private final int[][] edgeTo;
+
+    private final long[] lab; // dual variables
+    private final int[] match;
+    private final int[] slack;
+    private final int[] st; // top blossom of vertex
+    private final int[] pa;
+    private final int[] s; // -1 - free, 0 - even (S), 1 - odd (T)
+    private final int[] vis;
+    private int visTime = 0;
+    private final int[][] flowerFrom;
+    private final List<List<Integer>> flower;
+    private final ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+    /**
+     * @param weights symmetric weights between vertexes, vertexes count must be even
+     * @return pair for each vertex
+     */
+    public static int[] find(long[][] weights) {
+        if (weights.length % 2 != 0) {
+            throw new IllegalArgumentException("Perfect matching needs even vertexes count, but found " + weights.length);
+        }
+        return new MinimumWeightPerfectMatching(weights).solve();
+    }
+
+    private MinimumWeightPerfectMatching(long[][] weights) {
+        this.n = weights.length;
+        int size = 2 * n + 1;
+        this.edgeWeight = new long[size][size];
+        this.edgeFrom = new int[size][size];
+        this.edgeTo = new int[size][size];
+        this.lab = new long[size];
+        this.match = new int[size];
+        this.slack = new int[size];
+        this.st = new int[size];
+        this.pa = new int[size];
+        this.s = new int[size];
+        this.vis = new int[size];
+        this.flowerFrom = new int[size][n + 1];
+        this.flower = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            this.flower.add(new ArrayList<>());
+        }
+
+        long maxWeight = 0;
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                maxWeight = Math.max(maxWeight, weights[u][v]);
+            }
+        }
+        for (int u = 1; u <= n; u++) {
+            for (int v = 1; v <= n; v++) {
+                edgeFrom[u][v] = u;
+                edgeTo[u][v] = v;
+                edgeWeight[u][v] = (u == v ? 0 : maxWeight - weights[u - 1][v - 1] + 1);
+            }
+        }
+    }
+
+    private int[] solve() {
+        nx = n;
+        for (int u = 0; u <= n; u++) {
+            st[u] = u;
+            flower.get(u).clear();
+        }
+        long maxWeight = 0;
+        for (int u = 1; u <= n; u++) {
+            for (int v = 1; v <= n; v++) {
+                flowerFrom[u][v] = (u == v ? u : 0);
+                maxWeight = Math.max(maxWeight, edgeWeight[u][v]);
+            }
+        }
+        for (int u = 1; u <= n; u++) {
+            lab[u] = maxWeight;
+        }
+
+        while (matching()) {
+            // each iteration adds one pair
+        }
+
+        int[] res = new int[n];
+        for (int u = 1; u <= n; u++) {
+            if (match[u] == 0) {
+                throw new IllegalStateException("Can't find perfect matching, vertex " + (u - 1) + " without pair");
+            }
+            res[u - 1] = match[u] - 1;
+        }
+        return res;
+    }
+
+    private long dist(int u, int v) {
+        return lab[edgeFrom[u][v]] + lab[edgeTo[u][v]] - edgeWeight[u][v] * 2;
+    }
+
+    private void copyEdge(int toU, int toV, int fromU, int fromV) {
+        edgeFrom[toU][toV] = edgeFrom[fromU][fromV];
+        edgeTo[toU][toV] = edgeTo[fromU][fromV];
+        edgeWeight[toU][toV] = edgeWeight[fromU][fromV];
+    }
+
+    private void updateSlack(int u, int x) {
+        if (slack[x] == 0 || dist(u, x) < dist(slack[x], x)) {
+            slack[x] = u;
+        }
+    }
+
+    private void setSlack(int x) {
+        slack[x] = 0;
+        for (int u = 1; u <= n; u++) {
+            if (edgeWeight[u][x] > 0 && st[u] != x && s[st[u]] == 0) {
+                updateSlack(u, x);
+            }
+        }
+    }
+
+    private void queuePush(int x) {
+        if (x <= n) {
+            queue.add(x);
+        } else {
+            for (int child : flower.get(x)) {
+                queuePush(child);
+            }
+        }
+    }
+
+    private void setSt(int x, int b) {
+        st[x] = b;
+        if (x > n) {
+            for (int child : flower.get(x)) {
+                setSt(child, b);
+            }
+        }
+    }
+
+    private int getPr(int b, int xr) {
+        List<Integer> list = flower.get(b);
+        int pr = list.indexOf(xr);
+        if (pr % 2 == 1) {
+            Collections.reverse(list.subList(1, list.size()));
+            return list.size() - pr;
+        }
+        return pr;
+    }
+
+    private void setMatch(int u, int v) {
+        match[u] = edgeTo[u][v];
+        if (u > n) {
+            int xr = flowerFrom[u][edgeFrom[u][v]];
+            int pr = getPr(u, xr);
+            List<Integer> list = flower.get(u);
+            for (int i = 0; i < pr; i++) {
+                setMatch(list.get(i), list.get(i ^ 1));
+            }
+            setMatch(xr, v);
+            Collections.rotate(list, -pr);
+        }
+    }
+
+    private void augment(int u, int v) {
+        while (true) {
+            int xnv = st[match[u]];
+            setMatch(u, v);
+            if (xnv == 0) {
+                return;
+            }
+            setMatch(xnv, st[pa[xnv]]);
+            u = st[pa[xnv]];
+            v = xnv;
+        }
+    }
+
+    private int getLca(int u, int v) {
+        visTime++;
+        while (u != 0 || v != 0) {
+            if (u != 0) {
+                if (vis[u] == visTime) {
+                    return u;
+                }
+                vis[u] = visTime;
+                u = st[match[u]];
+                if (u != 0) {
+                    u = st[pa[u]];
+                }
+            }
+            int temp = u;
+            u = v;
+            v = temp;
+        }
+        return 0;
+    }
+
+    private void addBlossom(int u, int lca, int v) {
+        int b = n + 1;
+        while (b <= nx && st[b] != 0) {
+            b++;
+        }
+        if (b > nx) {
+            nx++;
+        }
+        lab[b] = 0;
+        s[b] = 0;
+        match[b] = match[lca];
+        List<Integer> list = flower.get(b);
+        list.clear();
+        list.add(lca);
+        int y;
+        for (int x = u; x != lca; x = st[pa[y]]) {
+            list.add(x);
+            y = st[match[x]];
+            list.add(y);
+            queuePush(y);
+        }
+        Collections.reverse(list.subList(1, list.size()));
+        for (int x = v; x != lca; x = st[pa[y]]) {
+            list.add(x);
+            y = st[match[x]];
+            list.add(y);
+            queuePush(y);
+        }
+        setSt(b, b);
+        for (int x = 1; x <= nx; x++) {
+            edgeWeight[b][x] = 0;
+            edgeWeight[x][b] = 0;
+        }
+        for (int x = 1; x <= n; x++) {
+            flowerFrom[b][x] = 0;
+        }
+        for (int xs : list) {
+            for (int x = 1; x <= nx; x++) {
+                if (edgeWeight[b][x] == 0 || dist(xs, x) < dist(b, x)) {
+                    copyEdge(b, x, xs, x);
+                    copyEdge(x, b, x, xs);
+                }
+            }
+            for (int x = 1; x <= n; x++) {
+                if (flowerFrom[xs][x] != 0) {
+                    flowerFrom[b][x] = xs;
+                }
+            }
+        }
+        setSlack(b);
+    }
+
+    private void expandBlossom(int b) {
+        List<Integer> list = flower.get(b);
+        for (int xs : list) {
+            setSt(xs, xs);
+        }
+        int xr = flowerFrom[b][edgeFrom[b][pa[b]]];
+        int pr = getPr(b, xr);
+        for (int i = 0; i < pr; i += 2) {
+            int xs = list.get(i);
+            int xns = list.get(i + 1);
+            pa[xs] = edgeFrom[xns][xs];
+            s[xs] = 1;
+            s[xns] = 0;
+            slack[xs] = 0;
+            setSlack(xns);
+            queuePush(xns);
+        }
+        s[xr] = 1;
+        pa[xr] = pa[b];
+        for (int i = pr + 1; i < list.size(); i++) {
+            int xs = list.get(i);
+            s[xs] = -1;
+            setSlack(xs);
+        }
+        st[b] = 0;
+    }
+
+    /**
+     * @return true on augmenting path (new pair found)
+     */
+    private boolean onFoundEdge(int edgeU, int edgeV) {
+        int from = edgeFrom[edgeU][edgeV];
+        int to = edgeTo[edgeU][edgeV];
+        int u = st[from];
+        int v = st[to];
+        if (s[v] == -1) {
+            pa[v] = from;
+            s[v] = 1;
+            int nu = st[match[v]];
+            slack[v] = 0;
+            slack[nu] = 0;
+            s[nu] = 0;
+            queuePush(nu);
+        } else if (s[v] == 0) {
+            int lca = getLca(u, v);
+            if (lca == 0) {
+                augment(u, v);
+                augment(v, u);
+                return true;
+            } else {
+                addBlossom(u, lca, v);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true on found new pair
+     */
+    private boolean matching() {
+        for (int x = 1; x <= nx; x++) {
+            s[x] = -1;
+            slack[x] = 0;
+        }
+        queue.clear();
+        for (int x = 1; x <= nx; x++) {
+            if (st[x] == x && match[x] == 0) {
+                pa[x] = 0;
+                s[x] = 0;
+                queuePush(x);
+            }
+        }
+        if (queue.isEmpty()) {
+            return false;
+        }
+
+        while (true) {
+            while (!queue.isEmpty()) {
+                int u = queue.poll();
+                if (s[st[u]] == 1) {
+                    continue;
+                }
+                for (int v = 1; v <= n; v++) {
+                    if (edgeWeight[u][v] > 0 && st[u] != st[v]) {
+                        if (dist(u, v) == 0) {
+                            if (onFoundEdge(u, v)) {
+                                return true;
+                            }
+                        } else {
+                            updateSlack(u, st[v]);
+                        }
+                    }
+                }
+            }
+
+            // update dual variables
+            long d = Long.MAX_VALUE;
+            for (int b = n + 1; b <= nx; b++) {
+                if (st[b] == b && s[b] == 1) {
+                    d = Math.min(d, lab[b] / 2);
+                }
+            }
+            for (int x = 1; x <= nx; x++) {
+                if (st[x] == x && slack[x] != 0) {
+                    if (s[x] == -1) {
+                        d = Math.min(d, dist(slack[x], x));
+                    } else if (s[x] == 0) {
+                        d = Math.min(d, dist(slack[x], x) / 2);
+                    }
+                }
+            }
+            for (int u = 1; u <= n; u++) {
+                if (s[st[u]] == 0) {
+                    if (lab[u] <= d) {
+                        return false;
+                    }
+                    lab[u] -= d;
+                } else if (s[st[u]] == 1) {
+                    lab[u] += d;
+                }
+            }
+            for (int b = n + 1; b <= nx; b++) {
+                if (st[b] == b) {
+                    if (s[st[b]] == 0) {
+                        lab[b] += d * 2;
+                    } else if (s[st[b]] == 1) {
+                        lab[b] -= d * 2;
+                    }
+                }
+            }
+
+            queue.clear();
+            for (int x = 1; x <= nx; x++) {
+                if (st[x] == x && slack[x] != 0 && st[slack[x]] != x && dist(slack[x], x) == 0) {
+                    if (onFoundEdge(slack[x], x)) {
+                        return true;
+                    }
+                }
+            }
+            for (int b = n + 1; b <= nx; b++) {
+                if (st[b] == b && s[b] == 1 && lab[b] == 0) {
+                    expandBlossom(b);
+                }
+            }
+        }
+    }
+}
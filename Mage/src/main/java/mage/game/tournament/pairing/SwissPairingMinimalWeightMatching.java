@@ -15,8 +15,8 @@ import java.util.*;
 // SwissPairingMinimalWeightMatching creates round pairings for swiss tournament.
 // It assigns weight to each possible pair and searches perfect matching with minimal weight
 // for more details see https://www.leaguevine.com/blog/18/swiss-tournament-scheduling-leaguevines-new-algorithm/
-// This implementation don't use fast minimum weight maximum matching algorithm,
-// it uses brute-force search, so it works reasonably fast only up to 16 players.
+// Perfect matching searched by Edmonds' blossom algorithm (see MinimumWeightPerfectMatching),
+// so it works fast for big tournaments too (256 players in few milliseconds).
 
 public class SwissPairingMinimalWeightMatching {
 
@@ -28,7 +28,7 @@ public class SwissPairingMinimalWeightMatching {
     private final int n;
 
     // weight of pairings
-    private final int[][] w;
+    private final long[][] w;
 
     public SwissPairingMinimalWeightMatching(List<TournamentPlayer> players, List<Round> rounds, boolean isLastRound) {
         playersCount = players.size();
@@ -116,7 +116,7 @@ public class SwissPairingMinimalWeightMatching {
 
         // calculate weight
         // try to pair players with equal scores
-        w = new int[n][n];
+        w = new long[n][n];
         int pointsDiffMultiplier = 10;
         if (isLastRound) {
             // for the last round, for each unpaired player starting with the first place, pair
@@ -179,14 +179,7 @@ public class SwissPairingMinimalWeightMatching {
             }
         }
 
-        // initialize variables for backtrack
-        used = new boolean[n];
-        pairs = new int[n];
-        Arrays.fill(pairs, -1);
-        result = new int[n];
-        weight = 0;
-        minCost = -1;
-        makePairings(0);
+        result = MinimumWeightPerfectMatching.find(w);
     }
 
     public RoundPairings getRoundPairings() {
@@ -217,48 +210,8 @@ public class SwissPairingMinimalWeightMatching {
         return new RoundPairings(pairings, playerByes);
     }
 
-    private boolean[] used;
-
-    // current pairs
-    private int[] pairs;
-    // current weight
-    private int weight;
-
-    private int[] result;
-    private int minCost;
-
-    // backtrack all possible pairings and choose one with minimal weight
-    private void makePairings(int t) {
-        if (t >= n) {
-            if (minCost < 0 || minCost > weight) {
-                minCost = weight;
-                System.arraycopy(pairs, 0, result, 0, n);
-            }
-            return;
-        }
-
-        if (!used[t]) {
-            for (int i = t + 1; i < n; i++) {
-                if (!used[i]) {
-                    pairs[t] = i;
-                    pairs[i] = t;
-                    used[t] = true;
-                    used[i] = true;
-                    weight += w[t][i];
-
-                    makePairings(t + 1);
-
-                    pairs[t] = -1;
-                    pairs[i] = -1;
-                    used[t] = false;
-                    used[i] = false;
-                    weight -= w[t][i];
-                }
-            }
-        } else {
-            makePairings(t + 1);
-        }
-    }
+    // pair for each vertex with minimal total weight
+    private final int[] result;
 
     static class PlayerInfo {
         private int id;
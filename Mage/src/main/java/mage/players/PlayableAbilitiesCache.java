@@ -0,0 +1,74 @@
+package mage.players;
+
+import mage.abilities.ActivatedAbility;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.GameState;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Playable abilities cache for a single player (see PlayerImpl.getPlayable).
+ * <p>
+ * Calculated abilities can be used while game state keeps the same version (no game
+ * events, effects apply, priority changes or restores), so repeated calls in the same
+ * priority window (GUI updates, AI decisions) don't need a full game simulation.
+ * <p>
+ * Cached abilities are never returned directly, each call gets own copies.
+ */
+class PlayableAbilitiesCache {
+
+    private GameState state = null;
+    private long stateVersion = 0;
+    private boolean payManaMode = false;
+    private final Map<String, List<ActivatedAbility>> results = new HashMap<>(); // request params -> playable abilities
+
+    /**
+     * @return copy of the cached abilities or null if it must be calculated
+     */
+    List<ActivatedAbility> get(Game game, boolean payManaMode, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
+        if (!isActual(game, payManaMode)) {
+            clear();
+            return null;
+        }
+        List<ActivatedAbility> playable = results.get(makeKey(hidden, fromZone, hideDuplicatedAbilities));
+        if (playable == null) {
+            return null;
+        }
+        return playable.stream()
+                .map(ActivatedAbility::copy)
+                .collect(Collectors.toList());
+    }
+
+    void put(Game game, boolean payManaMode, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities, List<ActivatedAbility> playable) {
+        if (!isActual(game, payManaMode)) {
+            clear();
+            this.state = game.getState();
+            this.stateVersion = game.getState().getStateVersion();
+            this.payManaMode = payManaMode;
+        }
+        results.put(makeKey(hidden, fromZone, hideDuplicatedAbilities), playable.stream()
+                .map(ActivatedAbility::copy)
+                .collect(Collectors.toList()));
+    }
+
+    void clear() {
+        this.state = null;
+        this.stateVersion = 0;
+        this.results.clear();
+    }
+
+    private boolean isActual(Game game, boolean payManaMode) {
+        return this.state != null
+                && this.state == game.getState()
+                && this.stateVersion == game.getState().getStateVersion()
+                && this.payManaMode == payManaMode;
+    }
+
+    private static String makeKey(boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
+        return hidden + "-" + fromZone + "-" + hideDuplicatedAbilities;
+    }
+}
@@ -199,6 +199,9 @@ public abstract class PlayerImpl implements Player, Serializable {
     // Used during available mana calculation to give back possible available net mana from triggered mana abilities (No need to copy)
     protected final List<List<Mana>> availableTriggeredManaList = new ArrayList<>();
 
+    // playable abilities for the current game state, must not be copied or restored
+    private transient PlayableAbilitiesCache playableCache;
+
     protected PlayerImpl(String name, RangeOfInfluence range) {
         this(UUID.randomUUID());
         this.name = name;
@@ -4252,6 +4255,23 @@ public abstract class PlayerImpl implements Player, Serializable {
      * @return
      */
     public List<ActivatedAbility> getPlayable(Game originalGame, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
+        // same state version - same playable abilities (GUI updates and AI can ask it many times per priority)
+        if (playableCache == null) {
+            playableCache = new PlayableAbilitiesCache();
+        }
+        List<ActivatedAbility> cached = playableCache.get(originalGame, payManaMode, hidden, fromZone, hideDuplicatedAbilities);
+        if (cached != null) {
+            return cached;
+        }
+        long stateVersion = originalGame.getState().getStateVersion();
+        List<ActivatedAbility> playable = calcPlayable(originalGame, hidden, fromZone, hideDuplicatedAbilities);
+        if (stateVersion == originalGame.getState().getStateVersion()) {
+            playableCache.put(originalGame, payManaMode, hidden, fromZone, hideDuplicatedAbilities, playable);
+        }
+        return playable;
+    }
+
+    private List<ActivatedAbility> calcPlayable(Game originalGame, boolean hidden, Zone fromZone, boolean hideDuplicatedAbilities) {
         List<ActivatedAbility> playable = new ArrayList<>();
         if (shouldSkipGettingPlayable(originalGame)) {
             return playable;
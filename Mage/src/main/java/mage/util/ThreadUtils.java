@@ -32,6 +32,7 @@ public final class ThreadUtils {
     public final static String THREAD_PREFIX_SERVICE_CONNECTION_EXPIRED_CHECK = "XMAGE connection expired check";
     public final static String THREAD_PREFIX_SERVICE_LOBBY_REFRESH = "XMAGE lobby refresh";
     public final static String THREAD_PREFIX_SERVICE_NEWS_REFRESH = "XMAGE news refresh";
+    public final static String THREAD_PREFIX_SERVICE_CALLBACK_SENDER = "XMAGE callback sender";
 
     // etc
     public final static String THREAD_PREFIX_TIMEOUT = "XMAGE timeout";
@@ -41,6 +42,7 @@ public final class ThreadUtils {
     // TODO: replace single GUI tasks by swing thread (invoke later) or by single executor like (like CALL for server side)
     public final static String THREAD_PREFIX_CLIENT_SYMBOLS_DOWNLOADER = "XMAGE symbols downloader";
     public final static String THREAD_PREFIX_CLIENT_IMAGES_DOWNLOADER = "XMAGE images downloader";
+    public final static String THREAD_PREFIX_CLIENT_IMAGES_PACK_BUILDER = "XMAGE images pack builder";
     public final static String THREAD_PREFIX_CLIENT_PING_SENDER = "XMAGE ping sender";
     public final static String THREAD_PREFIX_CLIENT_SUBMIT_TIMER = "XMAGE submit timer";
     public final static String THREAD_PREFIX_CLIENT_AUTO_CLOSE_TIMER = "XMAGE auto-close timer";
@@ -27,6 +27,24 @@ public class XmageThreadFactory implements ThreadFactory {
         this.isDaemon = isDaemon;
     }
 
+    /**
+     * Virtual threads factory with same names format, use it for waiting-heavy tasks only (example: game with human players).
+     * <p>
+     * Virtual threads supported by java 21+ only, so it's created by reflection (app can be compiled and run on older java)
+     *
+     * @return null on unsupported java version
+     */
+    public static ThreadFactory createVirtualOrNull(String prefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix + " - ", 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return null;
+        }
+    }
+
     @Override
     public Thread newThread(Runnable r) {
         int instanceNumber = this.counter.incrementAndGet();
@@ -0,0 +1,108 @@
+package mage.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Values distribution (latency in nanos, data size in bytes, etc), thread safe and lock free.
+ * <p>
+ * Values are stored in log-linear buckets (8 sub-buckets per power of two), so percentiles
+ * are estimated with an error up to 12.5% and memory usage is fixed.
+ */
+public final class Histogram {
+
+    private static final int SUB_BUCKETS_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKETS_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKETS_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    Histogram(String name) {
+        this.name = name;
+    }
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+        buckets.incrementAndGet(bucketIndex(value));
+    }
+
+    /**
+     * Record time from the start point
+     *
+     * @param startNanos value from System.nanoTime()
+     */
+    public void recordNanosSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile from 0 to 100
+     * @return estimated value (upper bound of the bucket)
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long current = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            current += counts[i];
+            if (current >= rank) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exp = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exp - SUB_BUCKETS_BITS)) & (SUB_BUCKETS - 1);
+        return (exp - SUB_BUCKETS_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exp = index / SUB_BUCKETS + SUB_BUCKETS_BITS - 1;
+        long sub = index % SUB_BUCKETS;
+        // overflow on last bucket gives Long.MAX_VALUE
+        return ((SUB_BUCKETS + sub + 1) << (exp - SUB_BUCKETS_BITS)) - 1;
+    }
+}
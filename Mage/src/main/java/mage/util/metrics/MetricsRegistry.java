@@ -0,0 +1,65 @@
+package mage.util.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Performance metrics of the running app: counters, histograms and gauges by name.
+ * <p>
+ * Metrics lives in the engine, so it can be used by any module (game engine, AI, database, server),
+ * server exports it by JMX and http (see ServerMetrics).
+ * <p>
+ * Usage: keep metric in a static field and update it in the code, e.g.
+ * Histogram.recordNanosSince(start) for latency, Counter.increment() for events
+ */
+public enum MetricsRegistry {
+
+    instance;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, Histogram::new);
+    }
+
+    /**
+     * Current value calculated on demand (e.g. queue size), replaces old gauge with same name
+     */
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Flat values of all metrics, sorted by name. Histograms exported as name.count, name.sum,
+     * name.max, name.p50, name.p95, name.p99
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> res = new TreeMap<>();
+        counters.forEach((name, counter) -> res.put(name, counter.get()));
+        gauges.forEach((name, gauge) -> {
+            try {
+                res.put(name, gauge.getAsLong());
+            } catch (Exception e) {
+                // gauge's source can be unavailable (e.g. on server shutdown)
+                res.put(name, -1L);
+            }
+        });
+        histograms.forEach((name, histogram) -> {
+            res.put(name + ".count", histogram.getCount());
+            res.put(name + ".sum", histogram.getSum());
+            res.put(name + ".max", histogram.getMax());
+            res.put(name + ".p50", histogram.getPercentile(50));
+            res.put(name + ".p95", histogram.getPercentile(95));
+            res.put(name + ".p99", histogram.getPercentile(99));
+        });
+        return res;
+    }
+}
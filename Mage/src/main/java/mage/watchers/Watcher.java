@@ -78,6 +78,14 @@ public abstract class Watcher implements Serializable {
 
     public abstract void watch(GameEvent event, Game game);
 
+    /**
+     * Event types from watch, used to route events to the watcher (see GameEventRouting).
+     * Must be declared in the same class as watch, null for unknown/any types.
+     */
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return null;
+    }
+
     public <T extends Watcher> T copy() {
         try {
             //use getDeclaredConstructors to allow for package-private constructors (i.e. omit public)
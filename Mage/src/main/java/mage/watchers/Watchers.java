@@ -2,10 +2,11 @@ package mage.watchers;
 
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEventRouting;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 
-import java.util.HashMap;
+import java.util.*;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -14,6 +15,9 @@ public class Watchers extends HashMap<String, Watcher> {
 
     private static final Logger logger = LogManager.getLogger(Watcher.class.getSimpleName());
 
+    // event type -> watchers, rebuilds on any watchers list changes
+    private transient Map<GameEvent.EventType, List<Watcher>> eventRouting = null;
+
     public Watchers() {
     }
 
@@ -33,11 +37,48 @@ public class Watchers extends HashMap<String, Watcher> {
     }
 
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher : this.values()) {
+        for (Watcher watcher : getWatchers(event.getType())) {
             watcher.watch(event, game);
         }
     }
 
+    private List<Watcher> getWatchers(GameEvent.EventType eventType) {
+        if (eventRouting == null) {
+            eventRouting = new EnumMap<>(GameEvent.EventType.class);
+        }
+        return eventRouting.computeIfAbsent(eventType, type -> GameEventRouting.select(this.values(), type, GameEventRouting::getEventTypes));
+    }
+
+    @Override
+    public Watcher put(String key, Watcher value) {
+        eventRouting = null;
+        return super.put(key, value);
+    }
+
+    @Override
+    public Watcher putIfAbsent(String key, Watcher value) {
+        eventRouting = null;
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Watcher> m) {
+        eventRouting = null;
+        super.putAll(m);
+    }
+
+    @Override
+    public Watcher remove(Object key) {
+        eventRouting = null;
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        eventRouting = null;
+        super.clear();
+    }
+
     public void reset() {
         this.values().forEach(Watcher::reset);
     }
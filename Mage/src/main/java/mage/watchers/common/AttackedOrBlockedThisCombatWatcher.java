@@ -6,6 +6,8 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -14,6 +16,8 @@ import java.util.Set;
  */
 public class AttackedOrBlockedThisCombatWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.BEGIN_COMBAT_STEP_PRE, GameEvent.EventType.ATTACKER_DECLARED, GameEvent.EventType.BLOCKER_DECLARED));
+
     private final Set<MageObjectReference> attackedThisTurnCreatures = new HashSet<>();
     private final Set<MageObjectReference> blockedThisTurnCreatures = new HashSet<>();
 
@@ -36,6 +40,11 @@ public class AttackedOrBlockedThisCombatWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     public Set<MageObjectReference> getAttackedThisTurnCreatures() {
         return this.attackedThisTurnCreatures;
     }
@@ -7,6 +7,8 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -17,6 +19,8 @@ import java.util.Set;
  */
 public class AttackedThisTurnWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED));
+
     private final Set<MageObjectReference> attackedThisTurnCreatures = new HashSet<>();
     private final Map<MageObjectReference, Integer> attackedThisTurnCreaturesCounts = new HashMap<>();
     
@@ -44,6 +48,11 @@ public class AttackedThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     public Set<MageObjectReference> getAttackedThisTurnCreatures() {
         return this.attackedThisTurnCreatures;
     }
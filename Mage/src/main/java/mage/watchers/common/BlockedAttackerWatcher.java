@@ -16,6 +16,8 @@ import mage.watchers.Watcher;
  */
 public class BlockedAttackerWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED));
+
     // key: blocking creatures
     // value: set of creatures blocked
     private final Map<MageObjectReference, Set<MageObjectReference>> blockerMap = new HashMap<>();
@@ -35,6 +37,11 @@ public class BlockedAttackerWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     @Override
     public void reset() {
         super.reset();
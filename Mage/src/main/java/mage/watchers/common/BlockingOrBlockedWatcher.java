@@ -14,6 +14,8 @@ import java.util.*;
  */
 public class BlockingOrBlockedWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED, GameEvent.EventType.END_COMBAT_STEP_POST, GameEvent.EventType.REMOVED_FROM_COMBAT));
+
     private final Map<MageObjectReference, Set<MageObjectReference>> blockerMap = new HashMap<>();
 
     /**
@@ -45,6 +47,11 @@ public class BlockingOrBlockedWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -21,6 +21,8 @@ import java.util.*;
  */
 public class CommanderPlaysCountWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.LAND_PLAYED, GameEvent.EventType.SPELL_CAST));
+
     private final Map<UUID, Integer> playsCount = new HashMap<>();
     private final Map<UUID, Integer> playerCount = new HashMap<>();
 
@@ -65,6 +67,11 @@ public class CommanderPlaysCountWatcher extends Watcher {
         playerCount.compute(event.getPlayerId(), (u, i) -> i + 1);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     public int getPlaysCount(UUID commanderId) {
         return this.playsCount.getOrDefault(commanderId, 0);
     }
@@ -7,8 +7,11 @@ import mage.game.events.ZoneChangeEvent;
 import mage.util.CardUtil;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -16,6 +19,8 @@ import java.util.UUID;
  */
 public class CreaturesDiedWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.ZONE_CHANGE));
+
     private final Map<UUID, Integer> amountOfCreaturesThatDiedByController = new HashMap<>();
     private final Map<UUID, Integer> amountOfCreaturesThatDiedByOwner = new HashMap<>();
 
@@ -42,6 +47,11 @@ public class CreaturesDiedWatcher extends Watcher {
         amountOfCreaturesThatDiedByOwner.compute(zEvent.getTarget().getOwnerId(), CardUtil::setOrIncrementValue);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     @Override
     public void reset() {
         super.reset();
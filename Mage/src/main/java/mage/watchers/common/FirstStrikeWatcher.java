@@ -6,6 +6,8 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -15,6 +17,8 @@ import java.util.UUID;
  */
 public class FirstStrikeWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.COMBAT_PHASE_POST));
+
     // creatures that had first strike or double strike for the first strike combat damage step of this combat phase
     // (note, due to 0 power or prevention, they may not necessarily have dealt damage)
     private final Set<MageObjectReference> firstStrikingCreatures;
@@ -34,6 +38,11 @@ public class FirstStrikeWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     @Override
     public void reset() {
         super.reset();
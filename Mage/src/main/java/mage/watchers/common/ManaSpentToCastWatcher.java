@@ -8,8 +8,11 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -22,6 +25,8 @@ import java.util.Map;
  */
 public class ManaSpentToCastWatcher extends Watcher {
 
+    private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.SPELL_CAST));
+
     private final Map<MageObjectReference, Mana> manaMap = new HashMap<>();
 
     /**
@@ -43,6 +48,11 @@ public class ManaSpentToCastWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchedEventTypes() {
+        return WATCHED_EVENT_TYPES;
+    }
+
     public Mana getManaPayment(MageObjectReference source) {
         return manaMap.getOrDefault(source, null);
     }
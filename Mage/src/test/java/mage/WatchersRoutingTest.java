@@ -0,0 +1,119 @@
+package mage;
+
+import mage.constants.WatcherScope;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.watchers.Watcher;
+import mage.watchers.Watchers;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+public class WatchersRoutingTest {
+
+    @Test
+    public void test_RouteByDeclaredTypes() {
+        Watchers watchers = new Watchers();
+        SpellCastCountWatcher spellWatcher = new SpellCastCountWatcher();
+        AnyEventCountWatcher anyWatcher = new AnyEventCountWatcher();
+        OverriddenCountWatcher overriddenWatcher = new OverriddenCountWatcher();
+        watchers.add(spellWatcher);
+        watchers.add(anyWatcher);
+        watchers.add(overriddenWatcher);
+
+        watchers.watch(event(GameEvent.EventType.SPELL_CAST), null);
+        watchers.watch(event(GameEvent.EventType.DREW_CARD), null);
+        watchers.watch(event(GameEvent.EventType.DREW_CARD), null);
+
+        assertEquals(1, spellWatcher.getCount());
+        assertEquals(3, anyWatcher.getCount());
+        // subclass with own watch code and without own declaration must get all events
+        assertEquals(3, overriddenWatcher.getCount());
+    }
+
+    @Test
+    public void test_RouteAfterChanges() {
+        Watchers watchers = new Watchers();
+        SpellCastCountWatcher spellWatcher = new SpellCastCountWatcher();
+        watchers.add(spellWatcher);
+        watchers.watch(event(GameEvent.EventType.SPELL_CAST), null);
+
+        // new watcher must get next events
+        AnyEventCountWatcher anyWatcher = new AnyEventCountWatcher();
+        watchers.add(anyWatcher);
+        watchers.watch(event(GameEvent.EventType.SPELL_CAST), null);
+        assertEquals(2, spellWatcher.getCount());
+        assertEquals(1, anyWatcher.getCount());
+
+        // removed watcher must not get next events
+        watchers.remove(spellWatcher.getKey());
+        watchers.watch(event(GameEvent.EventType.SPELL_CAST), null);
+        assertEquals(2, spellWatcher.getCount());
+        assertEquals(2, anyWatcher.getCount());
+
+        // copy must use own watchers
+        Watchers copy = watchers.copy();
+        copy.watch(event(GameEvent.EventType.SPELL_CAST), null);
+        assertEquals(2, anyWatcher.getCount());
+        assertEquals(3, ((AnyEventCountWatcher) copy.get(anyWatcher.getKey())).getCount());
+    }
+
+    private static GameEvent event(GameEvent.EventType type) {
+        return GameEvent.getEvent(type, UUID.randomUUID(), null, UUID.randomUUID());
+    }
+
+    private static class AnyEventCountWatcher extends Watcher {
+
+        private int count = 0;
+
+        AnyEventCountWatcher() {
+            super(WatcherScope.GAME);
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            count++;
+        }
+
+        int getCount() {
+            return count;
+        }
+    }
+
+    private static class SpellCastCountWatcher extends Watcher {
+
+        private static final Set<GameEvent.EventType> WATCHED_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.SPELL_CAST));
+
+        protected int count = 0;
+
+        SpellCastCountWatcher() {
+            super(WatcherScope.GAME);
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            if (event.getType() == GameEvent.EventType.SPELL_CAST) {
+                count++;
+            }
+        }
+
+        @Override
+        public Set<GameEvent.EventType> getWatchedEventTypes() {
+            return WATCHED_EVENT_TYPES;
+        }
+
+        int getCount() {
+            return count;
+        }
+    }
+
+    private static class OverriddenCountWatcher extends SpellCastCountWatcher {
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            count++;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package mage.game.tournament.pairing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Blossom algorithm must find same minimal weight as brute-force search (old swiss pairing implementation)
+ */
+public class MinimumWeightPerfectMatchingTest {
+
+    @Test
+    public void test_SameWeightAsBruteForce() {
+        Random random = new Random(42);
+        for (int i = 0; i < 3000; i++) {
+            int n = 2 * random.nextInt(7); // up to 12 vertexes
+            // small values for many ties, big values like squared swiss weights
+            int maxValue = random.nextBoolean() ? 5 : 10_000_000;
+            long[][] weights = new long[n][n];
+            for (int u = 0; u < n; u++) {
+                for (int v = 0; v < u; v++) {
+                    weights[u][v] = random.nextInt(maxValue);
+                    weights[v][u] = weights[u][v];
+                }
+            }
+
+            int[] pairs = MinimumWeightPerfectMatching.find(weights);
+            assertEquals(new BruteForceMatching(weights).minWeight, calcWeight(weights, pairs), "wrong weight for " + n + " vertexes");
+        }
+    }
+
+    @Test
+    public void test_BigGraph() {
+        Random random = new Random(42);
+        int n = 256;
+        long[][] weights = new long[n][n];
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < u; v++) {
+                weights[u][v] = random.nextInt(1000);
+                weights[v][u] = weights[u][v];
+            }
+        }
+
+        // must be perfect matching
+        calcWeight(weights, MinimumWeightPerfectMatching.find(weights));
+    }
+
+    @Test
+    public void test_OddVertexes() {
+        assertThrows(IllegalArgumentException.class, () -> MinimumWeightPerfectMatching.find(new long[3][3]));
+    }
+
+    private static long calcWeight(long[][] weights, int[] pairs) {
+        assertEquals(weights.length, pairs.length);
+        long weight = 0;
+        for (int u = 0; u < pairs.length; u++) {
+            int v = pairs[u];
+            assertNotEquals(u, v, "vertex can't be paired with itself");
+            assertEquals(u, pairs[v], "pairs must be symmetric");
+            if (u < v) {
+                weight += weights[u][v];
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * Backtrack all possible pairings and choose one with minimal weight, works fast up to 16 vertexes only
+     */
+    private static class BruteForceMatching {
+
+        private final long[][] w;
+        private final boolean[] used;
+        private long weight = 0;
+        private long minWeight = -1;
+
+        BruteForceMatching(long[][] w) {
+            this.w = w;
+            this.used = new boolean[w.length];
+            makePairings(0);
+        }
+
+        private void makePairings(int t) {
+            if (t >= w.length) {
+                if (minWeight < 0 || minWeight > weight) {
+                    minWeight = weight;
+                }
+                return;
+            }
+
+            if (!used[t]) {
+                for (int i = t + 1; i < w.length; i++) {
+                    if (!used[i]) {
+                        used[t] = true;
+                        used[i] = true;
+                        weight += w[t][i];
+
+                        makePairings(t + 1);
+
+                        used[t] = false;
+                        used[i] = false;
+                        weight -= w[t][i];
+                    }
+                }
+            } else {
+                makePairings(t + 1);
+            }
+        }
+    }
+}
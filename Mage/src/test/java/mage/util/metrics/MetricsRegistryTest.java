@@ -0,0 +1,66 @@
+package mage.util.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+
+/**
+ * Custom unit tests for {@link MetricsRegistry}
+ */
+public class MetricsRegistryTest {
+
+    @Test
+    public void test_HistogramBuckets() {
+        // small values stored as is
+        for (long value = 0; value < 8; value++) {
+            Assert.assertEquals(value, Histogram.bucketUpperBound(Histogram.bucketIndex(value)));
+        }
+
+        // other values must be inside own bucket with max 12.5% error
+        long[] values = {8, 9, 15, 16, 17, 100, 1000, 12345, 1_000_000, 987_654_321, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = Histogram.bucketIndex(value);
+            long upper = Histogram.bucketUpperBound(index);
+            Assert.assertTrue("value " + value + " must be less than bucket's upper bound " + upper, value <= upper);
+            Assert.assertTrue("value " + value + " must be in bucket " + index, index == 0 || Histogram.bucketUpperBound(index - 1) < value);
+            Assert.assertTrue("bucket error for " + value, (upper - value) <= value / 8);
+        }
+    }
+
+    @Test
+    public void test_HistogramPercentiles() {
+        Histogram histogram = new Histogram("test");
+        Assert.assertEquals(0, histogram.getPercentile(50));
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(500500, histogram.getSum());
+        Assert.assertEquals(1000, histogram.getMax());
+
+        long p50 = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        Assert.assertTrue("wrong p50 " + p50, p50 >= 500 && p50 <= 500 * 9 / 8);
+        Assert.assertTrue("wrong p99 " + p99, p99 >= 990 && p99 <= 1000);
+        Assert.assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void test_Snapshot() {
+        MetricsRegistry.instance.counter("test.snapshot.counter").add(3);
+        MetricsRegistry.instance.histogram("test.snapshot.histogram").record(10);
+        MetricsRegistry.instance.gauge("test.snapshot.gauge", () -> 7);
+
+        Map<String, Long> snapshot = MetricsRegistry.instance.snapshot();
+        Assert.assertEquals(3L, (long) snapshot.get("test.snapshot.counter"));
+        Assert.assertEquals(7L, (long) snapshot.get("test.snapshot.gauge"));
+        Assert.assertEquals(1L, (long) snapshot.get("test.snapshot.histogram.count"));
+        Assert.assertEquals(10L, (long) snapshot.get("test.snapshot.histogram.max"));
+        Assert.assertEquals(10L, (long) snapshot.get("test.snapshot.histogram.p99"));
+
+        // same name - same metric
+        Assert.assertSame(MetricsRegistry.instance.counter("test.snapshot.counter"), MetricsRegistry.instance.counter("test.snapshot.counter"));
+    }
+}